@@ -0,0 +1,92 @@
+package com.javabedrock.bridge.network;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encoder e decoder de frames do pipeline de {@link BridgeChannelInitializer},
+ * incluindo o batch Bedrock com e sem compressão
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FramingBenchmark {
+    private static final int PACKETS_PER_BATCH = 16;
+    
+    @Param({"64", "1024", "16384"})
+    public int packetSize;
+    
+    /** Limiar de compressão do batch (-1 = sem compressão) */
+    @Param({"-1", "256"})
+    public int compressionThreshold;
+    
+    private EmbeddedChannel encoder;
+    private EmbeddedChannel decoder;
+    private ByteBuf packet;
+    private ByteBuf frame;
+    
+    @Setup
+    public void setup() {
+        encoder = new EmbeddedChannel(
+            BridgeChannelInitializer.newFrameEncoder(),
+            new BedrockBatchEncoder(compressionThreshold, 6));
+        decoder = new EmbeddedChannel(BridgeChannelInitializer.newFrameDecoder());
+        
+        // Metade aleatória, metade repetida: aproxima a compressibilidade de pacotes reais
+        byte[] payload = new byte[packetSize];
+        SplittableRandom random = new SplittableRandom(42);
+        for (int i = 0; i < payload.length / 2; i++) {
+            payload[i] = (byte) random.nextInt(256);
+        }
+        packet = PooledByteBufAllocator.DEFAULT.directBuffer(packetSize).writeBytes(payload);
+        
+        // O decoder espera o tamanho incluindo o próprio campo de 4 bytes
+        frame = PooledByteBufAllocator.DEFAULT.directBuffer(packetSize + 4);
+        frame.writeInt(packetSize + 4).writeBytes(payload);
+    }
+    
+    @TearDown
+    public void tearDown() {
+        packet.release();
+        frame.release();
+        encoder.finishAndReleaseAll();
+        decoder.finishAndReleaseAll();
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(PACKETS_PER_BATCH)
+    public int encodeBatch() {
+        for (int i = 0; i < PACKETS_PER_BATCH; i++) {
+            encoder.write(packet.retainedDuplicate(), encoder.voidPromise());
+        }
+        encoder.flush();
+        return drain(encoder);
+    }
+    
+    @Benchmark
+    public int decodeFrame() {
+        decoder.writeInbound(frame.retainedDuplicate());
+        ByteBuf decoded = decoder.readInbound();
+        int size = decoded.readableBytes();
+        decoded.release();
+        return size;
+    }
+    
+    static int drain(EmbeddedChannel channel) {
+        int bytes = 0;
+        ByteBuf out;
+        while ((out = channel.readOutbound()) != null) {
+            bytes += out.readableBytes();
+            out.release();
+        }
+        return bytes;
+    }
+}
@@ -0,0 +1,74 @@
+package com.javabedrock.bridge.network;
+
+import com.javabedrock.bridge.core.BridgeCore;
+import com.javabedrock.bridge.data.PlayerSession;
+import com.javabedrock.bridge.metrics.MetricsRegistry;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.objenesis.ObjenesisStd;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caminho de {@link NetworkManager#send(PlayerSession, ByteBuf)} até o
+ * pipeline de saída, sobre um {@link EmbeddedChannel}
+ *
+ * O canal tem os handlers de saída de {@link BridgeChannelInitializer}, na
+ * mesma ordem: backpressure, consolidação de flush, batch e frame. Ficam de
+ * fora os handlers de entrada (decoders e BridgePacketHandler), que o envio
+ * não atravessa, e o TrafficMetricsHandler, que só conta bytes. O batch vai
+ * sem compressão para medir só o envio. O flush consolidado é agendado no
+ * event loop, então cada envio roda as tarefas pendentes antes de ler o frame.
+ *
+ * O BridgeCore é instanciado sem construtor, pois a configuração do Forge
+ * não está disponível fora do jogo; um mock interceptaria cada chamada do
+ * caminho medido. As métricas entram pelo construtor de benchmark do
+ * NetworkManager.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NetworkManagerSendBenchmark {
+    @Param({"64", "1024"})
+    public int packetSize;
+    
+    private NetworkManager networkManager;
+    private PlayerSession session;
+    private EmbeddedChannel channel;
+    private ByteBuf packet;
+    
+    @Setup
+    public void setup() {
+        BridgeCore bridge = new ObjenesisStd().newInstance(BridgeCore.class);
+        MetricsRegistry metrics = new MetricsRegistry(true);
+        networkManager = new NetworkManager(bridge, metrics);
+        channel = new EmbeddedChannel(
+            BridgeChannelInitializer.newFrameEncoder(),
+            new BedrockBatchEncoder(-1, 6),
+            BridgeChannelInitializer.newFlushConsolidation(64),
+            new OutboundBackpressureHandler(metrics));
+        session = new PlayerSession(UUID.randomUUID(), "benchmark");
+        session.setChannel(channel);
+        
+        packet = PooledByteBufAllocator.DEFAULT.directBuffer(packetSize).writeZero(packetSize);
+    }
+    
+    @TearDown
+    public void tearDown() {
+        packet.release();
+        channel.finishAndReleaseAll();
+    }
+    
+    @Benchmark
+    public int send() {
+        networkManager.send(session, packet.retainedDuplicate());
+        channel.runPendingTasks();
+        return FramingBenchmark.drain(channel);
+    }
+}
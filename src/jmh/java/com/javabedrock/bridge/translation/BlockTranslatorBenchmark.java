@@ -0,0 +1,56 @@
+package com.javabedrock.bridge.translation;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo da tradução de runtime IDs Java → Bedrock pela tabela densa
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BlockTranslatorBenchmark {
+    // Ordem de grandeza dos estados de bloco do vanilla 1.20
+    private static final int STATE_COUNT = 24_000;
+    private static final int SECTION_SIZE = ChunkSectionSerializer.SECTION_SIZE;
+    
+    private BlockTranslator translator;
+    private int[] sectionIds;
+    private int cursor;
+    
+    @Setup
+    public void setup() {
+        SplittableRandom random = new SplittableRandom(42);
+        int[] table = new int[STATE_COUNT];
+        for (int i = 0; i < table.length; i++) {
+            table[i] = random.nextInt(STATE_COUNT);
+        }
+        
+        translator = new BlockTranslator(null, null);
+        translator.installMappings(table, 0);
+        
+        sectionIds = new int[SECTION_SIZE];
+        for (int i = 0; i < sectionIds.length; i++) {
+            sectionIds[i] = random.nextInt(STATE_COUNT);
+        }
+    }
+    
+    @Benchmark
+    public int translateSingle() {
+        return translator.translate(sectionIds[cursor++ & (SECTION_SIZE - 1)]);
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(SECTION_SIZE)
+    public void translateSection(Blackhole bh) {
+        for (int id : sectionIds) {
+            bh.consume(translator.translate(id));
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.javabedrock.bridge.util;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caches do {@link CacheFactory} sob contenção: leituras concorrentes e
+ * uma mistura de leituras com escritas
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CacheFactoryBenchmark {
+    private static final int KEY_COUNT = 8192;
+    
+    /** Orçamento do cache em KB */
+    @Param({"4096", "256"})
+    public long budgetKb;
+    
+    @Param({"TINY_LFU", "LRU"})
+    public CacheBackend backend;
+    
+    private BridgeCache<String, Object> cache;
+    private String[] keys;
+    
+    @Setup
+    public void setup() {
+        cache = CacheFactory.createBlockCache(backend, new CacheBudget(budgetKb * 1024), 1.0);
+        keys = new String[KEY_COUNT];
+        for (int i = 0; i < KEY_COUNT; i++) {
+            keys[i] = "minecraft:block_" + i;
+            cache.put(keys[i], i);
+        }
+    }
+    
+    @State(Scope.Thread)
+    public static class Cursor {
+        private final SplittableRandom random = new SplittableRandom();
+        
+        int next() {
+            return random.nextInt(KEY_COUNT);
+        }
+    }
+    
+    @Benchmark
+    @Threads(8)
+    public Object read(Cursor cursor) {
+        return cache.getIfPresent(keys[cursor.next()]);
+    }
+    
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(7)
+    public Object mixedRead(Cursor cursor) {
+        return cache.getIfPresent(keys[cursor.next()]);
+    }
+    
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(1)
+    public void mixedWrite(Cursor cursor) {
+        int i = cursor.next();
+        cache.put(keys[i], i);
+    }
+}
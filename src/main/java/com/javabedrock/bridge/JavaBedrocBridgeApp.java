@@ -256,8 +256,8 @@ public class JavaBedrocBridgeApp extends Application {
             }
             
             try {
-                long blocksCount = bridgeCore.getTotalTranslatedBlocks().get();
-                long packetsCount = bridgeCore.getTotalNetworkPackets().get();
+                long blocksCount = bridgeCore.getMetrics().translatedBlocks().sum();
+                long packetsCount = bridgeCore.getMetrics().sentPackets().sum();
                 boolean isConnected = bridgeCore.getNetworkManager().isConnected();
                 
                 // Atualizar UI de forma thread-safe
@@ -42,8 +42,8 @@ public class CommandEvents {
             "- Pacotes enviados: %,d\n" +
             "- Modo debug: %s",
             bridge.getNetworkManager().isConnected() ? "Conectado" : "Desconectado",
-            bridge.getTotalTranslatedBlocks().get(),
-            bridge.getTotalNetworkPackets().get(),
+            bridge.getMetrics().translatedBlocks().sum(),
+            bridge.getMetrics().sentPackets().sum(),
             bridge.isDebugMode() ? "Ativado" : "Desativado"
         );
         
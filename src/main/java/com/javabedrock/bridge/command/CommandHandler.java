@@ -2,6 +2,8 @@ package com.javabedrock.bridge.command;
 
 import com.javabedrock.bridge.core.Java2BedrockBridge;
 import com.javabedrock.bridge.core.BridgeCore;
+import com.javabedrock.bridge.metrics.LatencyHistogram;
+import com.javabedrock.bridge.metrics.MetricsRegistry;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import java.util.Objects;
@@ -57,10 +59,23 @@ public class CommandHandler {
         status.append(String.format("Versão: %s\n", Java2BedrockBridge.getVersion()));
         status.append(String.format("Conexão: %s\n", 
             bridge.getNetworkManager().isConnected() ? "✓ Conectado" : "✗ Desconectado"));
-        status.append(String.format("Blocos traduzidos: %,d\n", 
-            bridge.getTotalTranslatedBlocks().get()));
-        status.append(String.format("Pacotes enviados: %,d\n", 
-            bridge.getTotalNetworkPackets().get()));
+        
+        MetricsRegistry metrics = bridge.getMetrics();
+        if (metrics.isEnabled()) {
+            status.append(String.format("Blocos traduzidos: %,d\n", 
+                metrics.translatedBlocks().sum()));
+            status.append(String.format("Pacotes enviados: %,d\n", 
+                metrics.sentPackets().sum()));
+            status.append(String.format("Pacotes recebidos: %,d\n", 
+                metrics.receivedPackets().sum()));
+            for (LatencyHistogram histogram : metrics.getHistograms()) {
+                status.append(String.format("%s: média %.1fµs, p99 %s\n", histogram.getName(),
+                    histogram.meanMicros(), formatPercentile(histogram.percentileMicros(0.99))));
+            }
+        } else {
+            status.append("Métricas: desativadas\n");
+        }
+        
         status.append(String.format("Modo Debug: %s\n", 
             bridge.isDebugMode() ? "Ativado" : "Desativado"));
         status.append(String.format("Mods carregados: %d\n", 
@@ -69,6 +84,10 @@ public class CommandHandler {
         LOGGER.info(status.toString());
     }
     
+    private static String formatPercentile(long micros) {
+        return micros < 0 ? "> 1s" : "≤ " + micros + "µs";
+    }
+    
     private void toggleDebug() {
         boolean newState = !bridge.isDebugMode();
         bridge.setDebugMode(newState);
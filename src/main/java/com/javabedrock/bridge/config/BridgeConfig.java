@@ -1,5 +1,6 @@
 package com.javabedrock.bridge.config;
 
+import com.javabedrock.bridge.util.CacheBackend;
 import net.minecraftforge.common.ForgeConfigSpec;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -18,6 +19,7 @@ public class BridgeConfig {
     private static final int MIN_TIMEOUT = 1000; // 1 segundo
     private static final int MAX_TIMEOUT = 30000; // 30 segundos
     private static final int DEFAULT_CACHE_SIZE = 8192;
+    private static final int MAX_CONNECTION_POOL_SIZE = 64;
     
     public static final ForgeConfigSpec.Builder BUILDER = new ForgeConfigSpec.Builder();
     public static final ForgeConfigSpec SPEC;
@@ -27,16 +29,39 @@ public class BridgeConfig {
     public static final ForgeConfigSpec.ConfigValue<String> BEDROCK_HOST;
     public static final ForgeConfigSpec.IntValue BEDROCK_PORT;
     public static final ForgeConfigSpec.IntValue CONNECTION_TIMEOUT;
+    public static final ForgeConfigSpec.IntValue CONNECTION_POOL_SIZE;
+    public static final ForgeConfigSpec.BooleanValue PER_SESSION_CHANNELS;
+    public static final ForgeConfigSpec.IntValue FLUSH_CONSOLIDATION;
+    public static final ForgeConfigSpec.IntValue COMPRESSION_THRESHOLD;
+    public static final ForgeConfigSpec.IntValue COMPRESSION_LEVEL;
+    public static final ForgeConfigSpec.IntValue PACKET_QUEUE_SIZE;
+    public static final ForgeConfigSpec.BooleanValue VIRTUAL_THREAD_DECODING;
+    public static final ForgeConfigSpec.IntValue CHUNKS_PER_TICK;
+    public static final ForgeConfigSpec.IntValue CHUNK_KB_PER_TICK;
+    public static final ForgeConfigSpec.IntValue VIEW_DISTANCE;
+    public static final ForgeConfigSpec.IntValue WRITE_BUFFER_LOW_KB;
+    public static final ForgeConfigSpec.IntValue WRITE_BUFFER_HIGH_KB;
+    public static final ForgeConfigSpec.IntValue EVENT_LOOP_PROBE_MS;
+    public static final ForgeConfigSpec.IntValue EVENT_LOOP_LAG_WARN_MS;
     
     // Performance settings
     public static final ForgeConfigSpec.DoubleValue CACHE_RATIO;
     public static final ForgeConfigSpec.IntValue MAX_BLOCK_CACHE_SIZE;
     public static final ForgeConfigSpec.IntValue MAX_ITEM_CACHE_SIZE;
+    public static final ForgeConfigSpec.EnumValue<CacheBackend> CACHE_BACKEND;
+    public static final ForgeConfigSpec.IntValue CHUNK_THREADS;
+    public static final ForgeConfigSpec.BooleanValue LAZY_MAPPINGS;
+    public static final ForgeConfigSpec.IntValue OFFHEAP_CACHE_MB;
+    public static final ForgeConfigSpec.IntValue BLOCK_UPDATE_WINDOW_MS;
+    public static final ForgeConfigSpec.IntValue BLOCK_UPDATE_RESEND_THRESHOLD;
+    public static final ForgeConfigSpec.BooleanValue VIRTUAL_THREAD_BACKGROUND;
     
     // Feature flags
     public static final ForgeConfigSpec.BooleanValue ENABLE_MOD_INTEGRATION;
     public static final ForgeConfigSpec.BooleanValue ENABLE_RESOURCE_PACKS;
     public static final ForgeConfigSpec.BooleanValue ENABLE_METRICS;
+    public static final ForgeConfigSpec.ConfigValue<String> METRICS_HOST;
+    public static final ForgeConfigSpec.IntValue METRICS_PORT;
     
     static {
         LOGGER.debug("Inicializando configuração do Bridge...");
@@ -61,6 +86,62 @@ public class BridgeConfig {
             .comment("Timeout de conexão em milissegundos")
             .defineInRange("timeout_ms", 5000, MIN_TIMEOUT, MAX_TIMEOUT);
         
+        CONNECTION_POOL_SIZE = BUILDER
+            .comment("Número de conexões com o Bedrock, distribuídas entre as threads de rede")
+            .defineInRange("connection_pool_size", 1, 1, MAX_CONNECTION_POOL_SIZE);
+        
+        PER_SESSION_CHANNELS = BUILDER
+            .comment("Abrir um canal dedicado por sessão de jogador")
+            .define("per_session_channels", false);
+        
+        FLUSH_CONSOLIDATION = BUILDER
+            .comment("Flush no máximo a cada N escritas ou por iteração do event loop (0 = flush imediato)")
+            .defineInRange("flush_after_writes", 64, 0, 4096);
+        
+        COMPRESSION_THRESHOLD = BUILDER
+            .comment("Tamanho mínimo do batch em bytes para comprimir (-1 = sem compressão)")
+            .defineInRange("compression_threshold", 256, -1, 1024 * 1024);
+        
+        COMPRESSION_LEVEL = BUILDER
+            .comment("Nível de compressão deflate dos batches (1 = rápido, 9 = menor)")
+            .defineInRange("compression_level", 6, 1, 9);
+        
+        PACKET_QUEUE_SIZE = BUILDER
+            .comment("Pacotes pendentes por canal antes de pausar a leitura (backpressure)")
+            .defineInRange("packet_queue_size", 1024, 16, 65536);
+        
+        VIRTUAL_THREAD_DECODING = BUILDER
+            .comment("Processar pacotes de entrada em virtual threads (requer Java 21+)")
+            .define("virtual_thread_decoding", false);
+        
+        CHUNKS_PER_TICK = BUILDER
+            .comment("Máximo de chunks enviados por jogador a cada tick")
+            .defineInRange("chunks_per_tick", 8, 1, 256);
+        
+        CHUNK_KB_PER_TICK = BUILDER
+            .comment("Orçamento de KB de chunks por jogador a cada tick")
+            .defineInRange("chunk_kb_per_tick", 256, 16, 16384);
+        
+        VIEW_DISTANCE = BUILDER
+            .comment("Distância de visão das sessões em chunks até o servidor informar o raio")
+            .defineInRange("view_distance", 10, 2, 64);
+        
+        WRITE_BUFFER_LOW_KB = BUILDER
+            .comment("Marca baixa do buffer de saída por canal em KB (volta a aceitar pacotes não críticos)")
+            .defineInRange("write_buffer_low_kb", 256, 8, 65536);
+        
+        WRITE_BUFFER_HIGH_KB = BUILDER
+            .comment("Marca alta do buffer de saída por canal em KB (acima dela pacotes não críticos são descartados ou agrupados)")
+            .defineInRange("write_buffer_high_kb", 1024, 16, 131072);
+        
+        EVENT_LOOP_PROBE_MS = BUILDER
+            .comment("Intervalo da sonda de atraso dos event loops em ms (0 = desativada)")
+            .defineInRange("event_loop_probe_ms", 250, 0, 10000);
+        
+        EVENT_LOOP_LAG_WARN_MS = BUILDER
+            .comment("Atraso de event loop em ms a partir do qual um aviso é emitido")
+            .defineInRange("event_loop_lag_warn_ms", 100, 10, 60000);
+        
         BUILDER.pop();
         
         // Performance Configuration
@@ -68,17 +149,45 @@ public class BridgeConfig {
             .push("performance");
         
         CACHE_RATIO = BUILDER
-            .comment("Proporção de cache relativa à memória máxima (0.0-1.0)")
+            .comment("Orçamento em bytes dos caches relativo à memória máxima (0.0-1.0)")
             .defineInRange("cache_ratio", 0.25, 0.0, 1.0);
         
         MAX_BLOCK_CACHE_SIZE = BUILDER
-            .comment("Tamanho máximo do cache de blocos")
+            .comment("Tamanho do cache de blocos (define a divisão inicial do orçamento)")
             .defineInRange("block_cache_size", DEFAULT_CACHE_SIZE, 1024, 65536);
         
         MAX_ITEM_CACHE_SIZE = BUILDER
-            .comment("Tamanho máximo do cache de itens")
+            .comment("Tamanho do cache de itens (define a divisão inicial do orçamento)")
             .defineInRange("item_cache_size", 4096, 512, 32768);
         
+        CACHE_BACKEND = BUILDER
+            .comment("Backend dos caches de tradução (TINY_LFU = Caffeine W-TinyLFU, LRU = Guava)")
+            .defineEnum("cache_backend", CacheBackend.TINY_LFU);
+        
+        CHUNK_THREADS = BUILDER
+            .comment("Threads de tradução de chunks (0 = auto-tuning)")
+            .defineInRange("chunk_threads", 0, 0, MAX_NETWORK_THREADS);
+        
+        LAZY_MAPPINGS = BUILDER
+            .comment("Carregar mapeamentos por namespace só na primeira consulta (modpacks grandes)")
+            .define("lazy_mappings", false);
+        
+        OFFHEAP_CACHE_MB = BUILDER
+            .comment("Memória direta para definições serializadas de itens e entidades em MB (0 = desativado)")
+            .defineInRange("offheap_cache_mb", 64, 0, 4096);
+        
+        BLOCK_UPDATE_WINDOW_MS = BUILDER
+            .comment("Janela de agrupamento de mudanças de bloco por seção em ms (0 = envio imediato)")
+            .defineInRange("block_update_window_ms", 50, 0, 1000);
+        
+        BLOCK_UPDATE_RESEND_THRESHOLD = BUILDER
+            .comment("Mudanças numa seção dentro da janela a partir das quais a coluna é reenviada")
+            .defineInRange("block_update_resend_threshold", 512, 2, 4096);
+        
+        VIRTUAL_THREAD_BACKGROUND = BUILDER
+            .comment("Scheduler de background com 2 threads e tarefas bloqueantes em virtual threads (requer Java 21+)")
+            .define("virtual_thread_background", false);
+        
         BUILDER.pop();
         
         // Feature Flags
@@ -97,6 +206,14 @@ public class BridgeConfig {
             .comment("Ativar coleta de métricas")
             .define("metrics", true);
         
+        METRICS_HOST = BUILDER
+            .comment("Endereço do endpoint HTTP de métricas (Prometheus)")
+            .define("metrics_host", "127.0.0.1");
+        
+        METRICS_PORT = BUILDER
+            .comment("Porta do endpoint HTTP /metrics (0 = desativado; requer metrics = true)")
+            .defineInRange("metrics_port", 0, 0, MAX_PORT);
+        
         BUILDER.pop();
         
         SPEC = BUILDER.build();
@@ -4,14 +4,18 @@ import com.javabedrock.bridge.config.BridgeConfig;
 import com.javabedrock.bridge.network.NetworkManager;
 import com.javabedrock.bridge.translation.TranslationEngine;
 import com.javabedrock.bridge.integration.ModIntegrationEngine;
+import com.javabedrock.bridge.metrics.JvmMetrics;
+import com.javabedrock.bridge.metrics.MetricsRegistry;
 import com.javabedrock.bridge.util.PerformanceManager;
+import com.javabedrock.bridge.util.PerformanceUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Núcleo do sistema de bridge
@@ -19,6 +23,9 @@ import java.util.concurrent.atomic.AtomicLong;
  */
 public class BridgeCore {
     private static final Logger LOGGER = LogManager.getLogger();
+    private static final int CACHE_REBALANCE_SECONDS = 15;
+    /** Threads do scheduler quando o trabalho bloqueante roda em virtual threads */
+    private static final int TIMER_THREADS = 2;
     
     private final BridgeConfig config;
     private final TranslationEngine translationEngine;
@@ -26,29 +33,53 @@ public class BridgeCore {
     private final ModIntegrationEngine modIntegration;
     private final PerformanceManager performanceManager;
     private final ScheduledExecutorService backgroundExecutor;
-    
-    private final AtomicLong totalTranslatedBlocks = new AtomicLong();
-    private final AtomicLong totalNetworkPackets = new AtomicLong();
+    private final ExecutorService blockingExecutor;
+    private final MetricsRegistry metrics;
     
     private boolean debugMode = false;
     
     public BridgeCore() {
         this.config = new BridgeConfig();
+        this.metrics = new MetricsRegistry(config.ENABLE_METRICS.get());
+        if (metrics.isEnabled()) {
+            JvmMetrics.register(metrics);
+        }
         this.performanceManager = new PerformanceManager();
         this.translationEngine = new TranslationEngine(this);
         this.networkManager = new NetworkManager(this);
         this.modIntegration = new ModIntegrationEngine(this);
         
-        int coreThreads = Math.max(4, Runtime.getRuntime().availableProcessors());
+        // Com virtual threads o trabalho bloqueante sai do scheduler, que fica
+        // só com os timers e tarefas curtas. As tarefas enviadas por
+        // runBlocking hoje são reconexões com connect assíncrono, então o
+        // efeito principal é o scheduler encolher para TIMER_THREADS
+        this.blockingExecutor = config.VIRTUAL_THREAD_BACKGROUND.get()
+            ? createVirtualExecutor()
+            : null;
+        int coreThreads = blockingExecutor != null
+            ? TIMER_THREADS
+            : Math.max(4, Runtime.getRuntime().availableProcessors());
+        
+        final AtomicInteger threadCounter = new AtomicInteger(0);
         this.backgroundExecutor = Executors.newScheduledThreadPool(coreThreads,
             r -> {
-                Thread t = new Thread(r, "Java2Bedrock-Worker-" + Thread.currentThread().getId());
+                Thread t = new Thread(r, "Java2Bedrock-Worker-" + threadCounter.incrementAndGet());
                 t.setDaemon(true);
                 t.setPriority(Thread.NORM_PRIORITY - 1);
                 return t;
             });
     }
     
+    private static ExecutorService createVirtualExecutor() {
+        ExecutorService executor = PerformanceUtils.newVirtualThreadExecutor("Java2Bedrock-Blocking-");
+        if (executor != null) {
+            LOGGER.info("✓ Tarefas bloqueantes de background em virtual threads");
+        } else {
+            LOGGER.warn("⚠ Virtual threads não suportadas nesta JVM, usando pool de plataforma");
+        }
+        return executor;
+    }
+    
     public void initialize() {
         try {
             long startTime = System.currentTimeMillis();
@@ -80,9 +111,34 @@ public class BridgeCore {
         backgroundExecutor.scheduleAtFixedRate(() -> {
             if (!networkManager.isConnected()) {
                 LOGGER.warn("Conexão perdida - Reconectando...");
-                networkManager.reconnect();
+                networkManager.reconnectDeadSlots();
             }
         }, 1, 30, TimeUnit.SECONDS);
+        
+        backgroundExecutor.scheduleAtFixedRate(() -> {
+            try {
+                translationEngine.rebalanceCaches();
+            } catch (Exception e) {
+                LOGGER.warn("Erro ao rebalancear caches", e);
+            }
+        }, CACHE_REBALANCE_SECONDS, CACHE_REBALANCE_SECONDS, TimeUnit.SECONDS);
+    }
+    
+    /**
+     * Executa uma tarefa que pode bloquear (I/O, handshakes) fora das threads
+     * do scheduler quando as virtual threads estão ativas. A carga dos
+     * mapeamentos não passa por aqui: roda no initialize, antes dos timers.
+     */
+    public void runBlocking(Runnable task) {
+        getBlockingExecutor().execute(task);
+    }
+    
+    /**
+     * Agenda uma tarefa bloqueante: o timer só dispara, a execução vai para
+     * o executor de tarefas bloqueantes
+     */
+    public void scheduleBlocking(Runnable task, long delay, TimeUnit unit) {
+        backgroundExecutor.schedule(() -> runBlocking(task), delay, unit);
     }
     
     public void shutdown() {
@@ -105,8 +161,17 @@ public class BridgeCore {
                 }
             }
             
-            // Limpar caches
+            if (blockingExecutor != null) {
+                blockingExecutor.shutdown();
+                if (!blockingExecutor.awaitTermination(5, TimeUnit.SECONDS)) {
+                    LOGGER.warn("Timeout ao encerrar tarefas bloqueantes");
+                    blockingExecutor.shutdownNow();
+                }
+            }
+            
+            // Encerrar tradução de chunks e limpar caches
             if (translationEngine != null) {
+                translationEngine.shutdown();
                 translationEngine.cleanupCaches();
             }
             
@@ -116,6 +181,9 @@ public class BridgeCore {
             if (backgroundExecutor != null) {
                 backgroundExecutor.shutdownNow();
             }
+            if (blockingExecutor != null) {
+                blockingExecutor.shutdownNow();
+            }
             Thread.currentThread().interrupt();
         }
     }
@@ -128,12 +196,19 @@ public class BridgeCore {
     public PerformanceManager getPerformanceManager() { return performanceManager; }
     public ScheduledExecutorService getBackgroundExecutor() { return backgroundExecutor; }
     
+    /**
+     * Executor de tarefas bloqueantes: virtual threads se ativadas, senão o
+     * próprio executor de background
+     */
+    public ExecutorService getBlockingExecutor() {
+        return blockingExecutor != null ? blockingExecutor : backgroundExecutor;
+    }
+    
     public boolean isDebugMode() { return debugMode; }
     public void setDebugMode(boolean debug) { 
         this.debugMode = debug;
         performanceManager.setDebug(debug);
     }
     
-    public AtomicLong getTotalTranslatedBlocks() { return totalTranslatedBlocks; }
-    public AtomicLong getTotalNetworkPackets() { return totalNetworkPackets; }
+    public MetricsRegistry getMetrics() { return metrics; }
 }
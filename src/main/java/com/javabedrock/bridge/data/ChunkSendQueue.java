@@ -0,0 +1,150 @@
+package com.javabedrock.bridge.data;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.Channel;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Fila de envio de chunks de uma sessão, priorizada pela distância ao jogador
+ *
+ * Os chunks mais próximos saem primeiro e cada tick respeita um orçamento de
+ * chunks e de bytes, para que um jogador rápido não sature o canal Bedrock.
+ */
+public class ChunkSendQueue {
+    private final PriorityQueue<PendingChunk> queue =
+        new PriorityQueue<>(Comparator.comparingLong(PendingChunk::distanceSq));
+    private final Map<Long, PendingChunk> byPosition = new HashMap<>();
+    
+    private int centerX;
+    private int centerZ;
+    private long queuedBytes;
+    private boolean closed;
+    
+    /**
+     * Enfileira o payload de um chunk. Um payload anterior para a mesma
+     * posição ainda não enviado é substituído e liberado. Depois de
+     * {@link #clear()} a fila está fechada e o payload é liberado na hora
+     * (traduções que terminam depois da sessão encerrada).
+     */
+    public synchronized void enqueue(int chunkX, int chunkZ, ByteBuf payload) {
+        if (closed) {
+            payload.release();
+            return;
+        }
+        
+        long key = chunkKey(chunkX, chunkZ);
+        PendingChunk previous = byPosition.remove(key);
+        if (previous != null) {
+            queue.remove(previous);
+            queuedBytes -= previous.payload.readableBytes();
+            previous.payload.release();
+        }
+        
+        PendingChunk chunk = new PendingChunk(chunkX, chunkZ, payload);
+        chunk.distanceSq = distanceSq(chunkX, chunkZ);
+        byPosition.put(key, chunk);
+        queue.add(chunk);
+        queuedBytes += payload.readableBytes();
+    }
+    
+    /**
+     * Atualiza o chunk central do jogador e reordena a fila se ele mudou
+     */
+    public synchronized void updateCenter(int chunkX, int chunkZ) {
+        if (chunkX == centerX && chunkZ == centerZ) {
+            return;
+        }
+        centerX = chunkX;
+        centerZ = chunkZ;
+        
+        if (queue.isEmpty()) {
+            return;
+        }
+        List<PendingChunk> pending = new ArrayList<>(queue);
+        queue.clear();
+        for (PendingChunk chunk : pending) {
+            chunk.distanceSq = distanceSq(chunk.chunkX, chunk.chunkZ);
+        }
+        queue.addAll(pending);
+    }
+    
+    /**
+     * Escreve no canal os chunks mais próximos dentro do orçamento do tick,
+     * sem flush. Pelo menos um chunk sai por tick, mesmo acima do orçamento
+     * de bytes. Retorna o número de chunks escritos.
+     */
+    public int drain(Channel channel, int maxChunks, long maxBytes) {
+        List<ByteBuf> batch = poll(maxChunks, maxBytes);
+        for (ByteBuf payload : batch) {
+            channel.write(payload, channel.voidPromise());
+        }
+        return batch.size();
+    }
+    
+    private synchronized List<ByteBuf> poll(int maxChunks, long maxBytes) {
+        List<ByteBuf> batch = new ArrayList<>(Math.min(maxChunks, queue.size()));
+        long bytes = 0;
+        
+        while (batch.size() < maxChunks && !queue.isEmpty()) {
+            int size = queue.peek().payload.readableBytes();
+            if (!batch.isEmpty() && bytes + size > maxBytes) {
+                break;
+            }
+            
+            PendingChunk chunk = queue.poll();
+            byPosition.remove(chunkKey(chunk.chunkX, chunk.chunkZ));
+            queuedBytes -= size;
+            bytes += size;
+            batch.add(chunk.payload);
+        }
+        return batch;
+    }
+    
+    /**
+     * Descarta todos os chunks pendentes, liberando seus buffers, e fecha a
+     * fila para novos payloads
+     */
+    public synchronized void clear() {
+        closed = true;
+        for (PendingChunk chunk : queue) {
+            chunk.payload.release();
+        }
+        queue.clear();
+        byPosition.clear();
+        queuedBytes = 0;
+    }
+    
+    public synchronized int size() { return queue.size(); }
+    public synchronized long getQueuedBytes() { return queuedBytes; }
+    
+    private long distanceSq(int chunkX, int chunkZ) {
+        long dx = chunkX - centerX;
+        long dz = chunkZ - centerZ;
+        return dx * dx + dz * dz;
+    }
+    
+    private static long chunkKey(int chunkX, int chunkZ) {
+        return ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+    }
+    
+    private static final class PendingChunk {
+        final int chunkX;
+        final int chunkZ;
+        final ByteBuf payload;
+        long distanceSq;
+        
+        PendingChunk(int chunkX, int chunkZ, ByteBuf payload) {
+            this.chunkX = chunkX;
+            this.chunkZ = chunkZ;
+            this.payload = payload;
+        }
+        
+        long distanceSq() { return distanceSq; }
+    }
+}
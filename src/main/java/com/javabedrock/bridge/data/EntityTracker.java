@@ -0,0 +1,181 @@
+package com.javabedrock.bridge.data;
+
+import com.javabedrock.bridge.network.BedrockPacketIds;
+import com.javabedrock.bridge.util.ByteBufUtils;
+import io.netty.buffer.ByteBuf;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Estado de movimento das entidades visíveis para uma sessão
+ *
+ * Cada atualização só guarda a posição e rotação mais recentes; a cada tick
+ * {@link #writeMoves(ByteBuf)} compara com o último estado enviado e gera um
+ * MoveEntityDelta apenas com os campos que mudaram além do quantum (1/32 de
+ * bloco na posição, 1/256 de volta na rotação). Várias atualizações da mesma
+ * entidade dentro de um tick viram um único pacote.
+ */
+public class EntityTracker {
+    /** Resolução da posição enviada: 1/32 de bloco */
+    private static final float POSITION_SCALE = 32.0f;
+    private static final float ROTATION_SCALE = 256.0f / 360.0f;
+    
+    // Flags do MoveEntityDelta
+    private static final int HAS_X = 0x01;
+    private static final int HAS_Y = 0x02;
+    private static final int HAS_Z = 0x04;
+    private static final int HAS_PITCH = 0x08;
+    private static final int HAS_YAW = 0x10;
+    private static final int HAS_HEAD_YAW = 0x20;
+    private static final int ON_GROUND = 0x40;
+    
+    private final Map<Long, TrackedEntity> entities = new HashMap<>();
+    private final List<TrackedEntity> dirty = new ArrayList<>();
+    
+    /**
+     * Registra a posição e rotação atuais de uma entidade (ângulos em graus)
+     */
+    public synchronized void update(long runtimeId, double x, double y, double z,
+                                    float pitch, float yaw, float headYaw, boolean onGround) {
+        TrackedEntity entity = entities.computeIfAbsent(runtimeId, TrackedEntity::new);
+        entity.x = quantisePosition(x);
+        entity.y = quantisePosition(y);
+        entity.z = quantisePosition(z);
+        entity.pitch = quantiseAngle(pitch);
+        entity.yaw = quantiseAngle(yaw);
+        entity.headYaw = quantiseAngle(headYaw);
+        entity.onGround = onGround;
+        
+        if (!entity.dirty) {
+            entity.dirty = true;
+            dirty.add(entity);
+        }
+    }
+    
+    /**
+     * Esquece uma entidade (despawn ou fora do alcance)
+     */
+    public synchronized void remove(long runtimeId) {
+        TrackedEntity entity = entities.remove(runtimeId);
+        if (entity != null && entity.dirty) {
+            dirty.remove(entity);
+        }
+    }
+    
+    public synchronized boolean hasPendingMoves() {
+        return !dirty.isEmpty();
+    }
+    
+    /**
+     * Escreve os MoveEntityDelta pendentes, cada um com prefixo de tamanho
+     * VarInt (formato do batch Bedrock). Retorna quantos pacotes foram escritos.
+     */
+    public synchronized int writeMoves(ByteBuf out) {
+        return writeMoves(out, null);
+    }
+    
+    /**
+     * Como {@link #writeMoves(ByteBuf)}, para sessões que compartilham um canal:
+     * entidades cujo runtime ID já está em {@code sentOnChannel} foram enviadas
+     * por outra sessão neste tick e só têm o estado marcado como enviado; os
+     * IDs escritos aqui são adicionados ao conjunto.
+     */
+    public synchronized int writeMoves(ByteBuf out, Set<Long> sentOnChannel) {
+        int written = 0;
+        for (TrackedEntity entity : dirty) {
+            entity.dirty = false;
+            if (sentOnChannel != null && !sentOnChannel.add(entity.runtimeId)) {
+                entity.markSent();
+            } else if (writeMove(entity, out)) {
+                written++;
+            }
+        }
+        dirty.clear();
+        return written;
+    }
+    
+    private static boolean writeMove(TrackedEntity entity, ByteBuf out) {
+        int flags = 0;
+        int fieldBytes = 0;
+        if (!entity.sent || entity.x != entity.sentX) { flags |= HAS_X; fieldBytes += 4; }
+        if (!entity.sent || entity.y != entity.sentY) { flags |= HAS_Y; fieldBytes += 4; }
+        if (!entity.sent || entity.z != entity.sentZ) { flags |= HAS_Z; fieldBytes += 4; }
+        if (!entity.sent || entity.pitch != entity.sentPitch) { flags |= HAS_PITCH; fieldBytes++; }
+        if (!entity.sent || entity.yaw != entity.sentYaw) { flags |= HAS_YAW; fieldBytes++; }
+        if (!entity.sent || entity.headYaw != entity.sentHeadYaw) { flags |= HAS_HEAD_YAW; fieldBytes++; }
+        
+        if (flags == 0 && entity.sent && entity.onGround == entity.sentOnGround) {
+            return false; // abaixo do quantum: nada a enviar
+        }
+        if (entity.onGround) {
+            flags |= ON_GROUND;
+        }
+        
+        int length = ByteBufUtils.varIntSize(BedrockPacketIds.MOVE_ENTITY_DELTA)
+            + ByteBufUtils.varLongSize(entity.runtimeId) + 2 + fieldBytes;
+        ByteBufUtils.writeVarInt(out, length);
+        ByteBufUtils.writeVarInt(out, BedrockPacketIds.MOVE_ENTITY_DELTA);
+        ByteBufUtils.writeVarLong(out, entity.runtimeId);
+        out.writeShortLE(flags);
+        if ((flags & HAS_X) != 0) out.writeFloatLE(entity.x / POSITION_SCALE);
+        if ((flags & HAS_Y) != 0) out.writeFloatLE(entity.y / POSITION_SCALE);
+        if ((flags & HAS_Z) != 0) out.writeFloatLE(entity.z / POSITION_SCALE);
+        if ((flags & HAS_PITCH) != 0) out.writeByte(entity.pitch);
+        if ((flags & HAS_YAW) != 0) out.writeByte(entity.yaw);
+        if ((flags & HAS_HEAD_YAW) != 0) out.writeByte(entity.headYaw);
+        
+        entity.markSent();
+        return true;
+    }
+    
+    /**
+     * Descarta o estado de todas as entidades
+     */
+    public synchronized void clear() {
+        entities.clear();
+        dirty.clear();
+    }
+    
+    public synchronized int size() { return entities.size(); }
+    
+    private static int quantisePosition(double value) {
+        return (int) Math.round(value * POSITION_SCALE);
+    }
+    
+    private static int quantiseAngle(float degrees) {
+        return Math.round(degrees * ROTATION_SCALE) & 0xFF;
+    }
+    
+    private static final class TrackedEntity {
+        final long runtimeId;
+        // Estado mais recente, já quantizado
+        int x, y, z;
+        int pitch, yaw, headYaw;
+        boolean onGround;
+        // Último estado enviado
+        int sentX, sentY, sentZ;
+        int sentPitch, sentYaw, sentHeadYaw;
+        boolean sentOnGround;
+        boolean sent;
+        boolean dirty;
+        
+        TrackedEntity(long runtimeId) {
+            this.runtimeId = runtimeId;
+        }
+        
+        void markSent() {
+            sentX = x;
+            sentY = y;
+            sentZ = z;
+            sentPitch = pitch;
+            sentYaw = yaw;
+            sentHeadYaw = headYaw;
+            sentOnGround = onGround;
+            sent = true;
+        }
+    }
+}
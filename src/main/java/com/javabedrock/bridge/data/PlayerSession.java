@@ -1,5 +1,8 @@
 package com.javabedrock.bridge.data;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.Channel;
+
 import java.util.UUID;
 
 /**
@@ -9,9 +12,15 @@ public class PlayerSession {
     private final UUID playerUuid;
     private final String playerName;
     private final long createdAt;
+    private final ChunkSendQueue chunkQueue = new ChunkSendQueue();
+    private final EntityTracker entityTracker = new EntityTracker();
     
     private volatile boolean active = true;
     private volatile long lastActivity;
+    private volatile Channel channel;
+    private volatile int chunkX;
+    private volatile int chunkZ;
+    private volatile int viewDistance;
     
     public PlayerSession(UUID playerUuid, String playerName) {
         this.playerUuid = playerUuid;
@@ -25,13 +34,59 @@ public class PlayerSession {
     public long getCreatedAt() { return createdAt; }
     public long getLastActivity() { return lastActivity; }
     public boolean isActive() { return active; }
+    public ChunkSendQueue getChunkQueue() { return chunkQueue; }
+    public EntityTracker getEntityTracker() { return entityTracker; }
+    
+    /**
+     * Canal dedicado da sessão (null quando usa o pool compartilhado)
+     */
+    public Channel getChannel() { return channel; }
+    public void setChannel(Channel channel) { this.channel = channel; }
     
     public void updateActivity() {
         this.lastActivity = System.currentTimeMillis();
     }
     
+    /**
+     * Enfileira um chunk traduzido; a sessão assume a posse do buffer
+     */
+    public void queueChunk(int chunkX, int chunkZ, ByteBuf payload) {
+        chunkQueue.enqueue(chunkX, chunkZ, payload);
+    }
+    
+    /**
+     * Atualiza o chunk onde o jogador está, repriorizando a fila de envio.
+     * Para refletir no índice espacial use {@code NetworkManager.updateSessionPosition}.
+     */
+    public void updatePosition(int chunkX, int chunkZ) {
+        this.chunkX = chunkX;
+        this.chunkZ = chunkZ;
+        chunkQueue.updateCenter(chunkX, chunkZ);
+    }
+    
+    public int getChunkX() { return chunkX; }
+    public int getChunkZ() { return chunkZ; }
+    
+    /**
+     * Raio de visão em chunks (0 = ainda não definido)
+     */
+    public int getViewDistance() { return viewDistance; }
+    public void setViewDistance(int viewDistance) { this.viewDistance = viewDistance; }
+    
+    /**
+     * Se o chunk está dentro do raio de visão (circular, como no Bedrock)
+     */
+    public boolean isInView(int chunkX, int chunkZ) {
+        long dx = chunkX - this.chunkX;
+        long dz = chunkZ - this.chunkZ;
+        long radius = viewDistance;
+        return dx * dx + dz * dz <= radius * radius;
+    }
+    
     public void deactivate() {
         this.active = false;
+        chunkQueue.clear();
+        entityTracker.clear();
     }
     
     public long getSessionDuration() {
@@ -0,0 +1,126 @@
+package com.javabedrock.bridge.data;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Índice espacial das sessões por região de chunks
+ *
+ * Cada sessão é registrada em todas as regiões de 8x8 chunks tocadas pelo seu
+ * raio de visão; descobrir quem enxerga um chunk custa uma consulta à região
+ * mais o teste de distância dos candidatos, independente do total de
+ * jogadores. O índice só muda quando a sessão cruza a borda de uma região ou
+ * muda o raio. Escritas são serializadas; leituras não bloqueiam.
+ */
+public class SessionGrid {
+    private static final int REGION_SHIFT = 3;
+    
+    private final Map<Long, Set<PlayerSession>> regions = new ConcurrentHashMap<>();
+    private final Map<PlayerSession, Area> areas = new ConcurrentHashMap<>();
+    
+    /**
+     * Reindexa a sessão a partir da posição e do raio de visão atuais
+     */
+    public synchronized void update(PlayerSession session) {
+        Area area = Area.of(session);
+        Area previous = areas.put(session, area);
+        if (area.equals(previous)) {
+            return;
+        }
+        
+        if (previous != null) {
+            for (int rx = previous.minX; rx <= previous.maxX; rx++) {
+                for (int rz = previous.minZ; rz <= previous.maxZ; rz++) {
+                    if (!area.contains(rx, rz)) {
+                        removeFrom(regionKey(rx, rz), session);
+                    }
+                }
+            }
+        }
+        for (int rx = area.minX; rx <= area.maxX; rx++) {
+            for (int rz = area.minZ; rz <= area.maxZ; rz++) {
+                if (previous == null || !previous.contains(rx, rz)) {
+                    regions.computeIfAbsent(regionKey(rx, rz), k -> ConcurrentHashMap.newKeySet()).add(session);
+                }
+            }
+        }
+    }
+    
+    /**
+     * Reindexa a sessão só se ela ainda estiver no índice; uma sessão removida
+     * em paralelo não volta a ser registrada. Retorna false nesse caso.
+     */
+    public synchronized boolean updateIfPresent(PlayerSession session) {
+        if (!areas.containsKey(session)) {
+            return false;
+        }
+        update(session);
+        return true;
+    }
+    
+    public synchronized void remove(PlayerSession session) {
+        Area area = areas.remove(session);
+        if (area == null) {
+            return;
+        }
+        for (int rx = area.minX; rx <= area.maxX; rx++) {
+            for (int rz = area.minZ; rz <= area.maxZ; rz++) {
+                removeFrom(regionKey(rx, rz), session);
+            }
+        }
+    }
+    
+    private void removeFrom(long key, PlayerSession session) {
+        regions.computeIfPresent(key, (k, set) -> {
+            set.remove(session);
+            return set.isEmpty() ? null : set;
+        });
+    }
+    
+    /**
+     * Sessões ativas cujo raio de visão cobre o chunk
+     */
+    public List<PlayerSession> viewers(int chunkX, int chunkZ) {
+        Set<PlayerSession> candidates = regions.get(regionKey(chunkX >> REGION_SHIFT, chunkZ >> REGION_SHIFT));
+        if (candidates == null) {
+            return List.of();
+        }
+        
+        List<PlayerSession> viewers = new ArrayList<>(candidates.size());
+        for (PlayerSession session : candidates) {
+            if (session.isActive() && session.isInView(chunkX, chunkZ)) {
+                viewers.add(session);
+            }
+        }
+        return viewers;
+    }
+    
+    public int size() { return areas.size(); }
+    
+    public int getRegionCount() { return regions.size(); }
+    
+    private static long regionKey(int regionX, int regionZ) {
+        return ((long) regionX << 32) | (regionZ & 0xFFFFFFFFL);
+    }
+    
+    /**
+     * Retângulo de regiões coberto pelo raio de visão de uma sessão
+     */
+    private record Area(int minX, int minZ, int maxX, int maxZ) {
+        static Area of(PlayerSession session) {
+            int radius = session.getViewDistance();
+            return new Area(
+                (session.getChunkX() - radius) >> REGION_SHIFT,
+                (session.getChunkZ() - radius) >> REGION_SHIFT,
+                (session.getChunkX() + radius) >> REGION_SHIFT,
+                (session.getChunkZ() + radius) >> REGION_SHIFT);
+        }
+        
+        boolean contains(int regionX, int regionZ) {
+            return regionX >= minX && regionX <= maxX && regionZ >= minZ && regionZ <= maxZ;
+        }
+    }
+}
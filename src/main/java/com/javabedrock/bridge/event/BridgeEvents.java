@@ -1,6 +1,7 @@
 package com.javabedrock.bridge.event;
 
 import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.common.MinecraftForge;
 import net.minecraftforge.eventbus.api.Event;
 import net.minecraftforge.eventbus.api.IEventBus;
 import net.minecraftforge.fml.common.Mod;
@@ -13,6 +14,41 @@ import org.apache.logging.log4j.Logger;
  * Eventos do Bridge que podem ser usados por outros mods
  */
 public class BridgeEvents {
+    private static final Logger LOGGER = LogManager.getLogger();
+    /** Barramento do Forge, resolvido uma única vez; null fora do jogo */
+    private static final IEventBus BUS = findBus();
+    
+    private static IEventBus findBus() {
+        try {
+            return MinecraftForge.EVENT_BUS;
+        } catch (LinkageError e) {
+            LOGGER.debug("Barramento do Forge indisponível, eventos do Bridge serão descartados");
+            return null;
+        }
+    }
+    
+    /**
+     * Indica se há barramento; fora do jogo nem vale a pena criar o evento
+     */
+    public static boolean isAvailable() {
+        return BUS != null;
+    }
+    
+    /**
+     * Publica um evento no barramento do Forge. Fora do jogo (app standalone)
+     * não há barramento e o evento é apenas descartado. Erros dos listeners
+     * nunca chegam a quem publicou.
+     */
+    public static void post(Event event) {
+        if (BUS == null) {
+            return;
+        }
+        try {
+            BUS.post(event);
+        } catch (Exception | LinkageError e) {
+            LOGGER.debug("Falha ao publicar {}", event.getClass().getSimpleName(), e);
+        }
+    }
     
     /**
      * Disparado quando o Bridge é inicializado
@@ -57,4 +93,24 @@ public class BridgeEvents {
         
         public String getReason() { return reason; }
     }
+    
+    /**
+     * Disparado quando um event loop de rede passa do limite de atraso
+     * configurado; sintoma típico de I/O bloqueante ou tarefa longa no loop
+     */
+    public static class EventLoopLagEvent extends Event {
+        private final int loopIndex;
+        private final long lagMillis;
+        private final int pendingTasks;
+        
+        public EventLoopLagEvent(int loopIndex, long lagMillis, int pendingTasks) {
+            this.loopIndex = loopIndex;
+            this.lagMillis = lagMillis;
+            this.pendingTasks = pendingTasks;
+        }
+        
+        public int getLoopIndex() { return loopIndex; }
+        public long getLagMillis() { return lagMillis; }
+        public int getPendingTasks() { return pendingTasks; }
+    }
 }
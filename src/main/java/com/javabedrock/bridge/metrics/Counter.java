@@ -0,0 +1,40 @@
+package com.javabedrock.bridge.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Contador monotônico com células por thread ({@link LongAdder})
+ *
+ * Incrementos de várias threads não disputam a mesma linha de cache; a
+ * soma é calculada só na leitura. Desativado, ignora as atualizações.
+ */
+public final class Counter {
+    private final String name;
+    private final String help;
+    private final LongAdder adder;
+    
+    Counter(String name, String help, boolean enabled) {
+        this.name = name;
+        this.help = help;
+        this.adder = enabled ? new LongAdder() : null;
+    }
+    
+    public void increment() {
+        if (adder != null) {
+            adder.increment();
+        }
+    }
+    
+    public void add(long delta) {
+        if (adder != null) {
+            adder.add(delta);
+        }
+    }
+    
+    public long sum() {
+        return adder != null ? adder.sum() : 0L;
+    }
+    
+    public String getName() { return name; }
+    public String getHelp() { return help; }
+}
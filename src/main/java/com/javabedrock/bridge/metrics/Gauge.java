@@ -0,0 +1,40 @@
+package com.javabedrock.bridge.metrics;
+
+import java.util.function.DoubleSupplier;
+
+/**
+ * Métrica lida sob demanda de outro subsistema (tamanho de fila, estatística
+ * de cache, GC...). O valor só é calculado quando alguém lê o registro.
+ */
+public final class Gauge {
+    private final String name;
+    private final String help;
+    private final String labels;
+    private final boolean monotonic;
+    private final DoubleSupplier supplier;
+    
+    Gauge(String name, String help, String labels, boolean monotonic, DoubleSupplier supplier) {
+        this.name = name;
+        this.help = help;
+        this.labels = labels;
+        this.monotonic = monotonic;
+        this.supplier = supplier;
+    }
+    
+    public double value() {
+        return supplier.getAsDouble();
+    }
+    
+    public String getName() { return name; }
+    public String getHelp() { return help; }
+    
+    /**
+     * Rótulos já no formato de exposição ({@code {cache="block"}}) ou vazio
+     */
+    public String getLabels() { return labels; }
+    
+    /**
+     * Valores que só crescem (contagens acumuladas lidas de outra fonte)
+     */
+    public boolean isMonotonic() { return monotonic; }
+}
@@ -0,0 +1,38 @@
+package com.javabedrock.bridge.metrics;
+
+import io.netty.buffer.PooledByteBufAllocator;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * Gauges da JVM (GC, heap, memória direta do Netty, threads)
+ */
+public final class JvmMetrics {
+    
+    private JvmMetrics() {
+        throw new AssertionError("Classe utilitária não deve ser instanciada");
+    }
+    
+    public static void register(MetricsRegistry registry) {
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            registry.functionCounter("j2b_jvm_gc_collections_total", "Coletas do GC",
+                "gc", gc.getName(), gc::getCollectionCount);
+            registry.functionCounter("j2b_jvm_gc_collection_seconds_total", "Tempo acumulado em coletas do GC",
+                "gc", gc.getName(), () -> gc.getCollectionTime() / 1000.0);
+        }
+        
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        registry.gauge("j2b_jvm_heap_used_bytes", "Heap em uso",
+            () -> memory.getHeapMemoryUsage().getUsed());
+        registry.gauge("j2b_jvm_heap_max_bytes", "Heap máximo",
+            () -> memory.getHeapMemoryUsage().getMax());
+        registry.gauge("j2b_netty_direct_memory_bytes", "Memória direta em uso pelo alocador em pool do Netty",
+            () -> PooledByteBufAllocator.DEFAULT.metric().usedDirectMemory());
+        
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        registry.gauge("j2b_jvm_threads", "Threads vivas na JVM", threads::getThreadCount);
+    }
+}
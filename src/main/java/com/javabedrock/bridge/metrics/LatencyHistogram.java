@@ -0,0 +1,128 @@
+package com.javabedrock.bridge.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histograma de latência com buckets fixos
+ *
+ * Os limites (de 50µs a 1s) são os mesmos para todos os histogramas, o que
+ * permite agregá-los e exportá-los no formato de buckets cumulativos. Cada
+ * bucket é um {@link LongAdder}: registrar uma amostra não usa lock nem CAS
+ * disputado. Desativado, {@link #startTimer()} nem lê o relógio.
+ */
+public final class LatencyHistogram {
+    /** Limites superiores dos buckets, em microssegundos; o último bucket é +Inf */
+    private static final long[] BOUNDS_MICROS = {
+        50, 100, 250, 500,
+        1_000, 2_500, 5_000, 10_000, 25_000, 50_000,
+        100_000, 250_000, 500_000, 1_000_000
+    };
+    private static final long[] BOUNDS_NANOS = new long[BOUNDS_MICROS.length];
+    
+    static {
+        for (int i = 0; i < BOUNDS_MICROS.length; i++) {
+            BOUNDS_NANOS[i] = TimeUnit.MICROSECONDS.toNanos(BOUNDS_MICROS[i]);
+        }
+    }
+    
+    private final String name;
+    private final String help;
+    private final boolean enabled;
+    private final LongAdder[] buckets = new LongAdder[BOUNDS_NANOS.length + 1];
+    private final LongAdder sumNanos = new LongAdder();
+    
+    LatencyHistogram(String name, String help, boolean enabled) {
+        this.name = name;
+        this.help = help;
+        this.enabled = enabled;
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+    
+    /**
+     * Início de uma medição, a ser passado para {@link #recordSince(long)}
+     */
+    public long startTimer() {
+        return enabled ? System.nanoTime() : 0L;
+    }
+    
+    public void recordSince(long startNanos) {
+        if (enabled) {
+            record(System.nanoTime() - startNanos);
+        }
+    }
+    
+    public void record(long nanos) {
+        if (!enabled) {
+            return;
+        }
+        int bucket = 0;
+        while (bucket < BOUNDS_NANOS.length && nanos > BOUNDS_NANOS[bucket]) {
+            bucket++;
+        }
+        buckets[bucket].increment();
+        sumNanos.add(Math.max(0, nanos));
+    }
+    
+    /**
+     * Contagens por bucket (não cumulativas); o último é o bucket +Inf
+     */
+    public long[] getBucketCounts() {
+        long[] counts = new long[buckets.length];
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = buckets[i].sum();
+        }
+        return counts;
+    }
+    
+    public static long[] getBucketBoundsMicros() {
+        return BOUNDS_MICROS.clone();
+    }
+    
+    public long count() {
+        long count = 0;
+        for (LongAdder bucket : buckets) {
+            count += bucket.sum();
+        }
+        return count;
+    }
+    
+    public long sumNanos() {
+        return sumNanos.sum();
+    }
+    
+    public double meanMicros() {
+        long count = count();
+        return count == 0 ? 0.0 : sumNanos() / 1000.0 / count;
+    }
+    
+    /**
+     * Percentil aproximado pelo limite superior do bucket que o contém,
+     * em microssegundos (-1 se a amostra cair no bucket +Inf)
+     */
+    public long percentileMicros(double quantile) {
+        long[] counts = getBucketCounts();
+        long total = 0;
+        for (long c : counts) {
+            total += c;
+        }
+        if (total == 0) {
+            return 0;
+        }
+        
+        long rank = (long) Math.ceil(quantile * total);
+        long seen = 0;
+        for (int i = 0; i < BOUNDS_MICROS.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return BOUNDS_MICROS[i];
+            }
+        }
+        return -1;
+    }
+    
+    public String getName() { return name; }
+    public String getHelp() { return help; }
+}
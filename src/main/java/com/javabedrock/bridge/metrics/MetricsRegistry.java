@@ -0,0 +1,121 @@
+package com.javabedrock.bridge.metrics;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.DoubleSupplier;
+
+/**
+ * Registro de métricas da bridge por subsistema
+ *
+ * Contadores e histogramas são criados uma vez e guardados em campo pelos
+ * subsistemas; os leitores (comando de status, UI, exportadores) percorrem
+ * o registro. Gauges leem sob demanda valores mantidos pelos próprios
+ * subsistemas. Com {@code metrics = false} na configuração os instrumentos
+ * existem mas ignoram as atualizações.
+ */
+public final class MetricsRegistry {
+    public static final String TRANSLATED_BLOCKS = "j2b_translated_blocks_total";
+    public static final String SENT_PACKETS = "j2b_sent_packets_total";
+    public static final String RECEIVED_PACKETS = "j2b_received_packets_total";
+    public static final String SENT_BYTES = "j2b_sent_bytes_total";
+    public static final String RECEIVED_BYTES = "j2b_received_bytes_total";
+    public static final String TRANSLATION_LATENCY = "j2b_chunk_translation_seconds";
+    public static final String SEND_LATENCY = "j2b_send_seconds";
+    public static final String DECODE_LATENCY = "j2b_decode_seconds";
+    
+    private final boolean enabled;
+    private final Map<String, Counter> counters = new ConcurrentSkipListMap<>();
+    private final Map<String, LatencyHistogram> histograms = new ConcurrentSkipListMap<>();
+    // Chave nome + '\0' + rótulos: séries de uma mesma família ficam adjacentes
+    private final Map<String, Gauge> gauges = new ConcurrentSkipListMap<>();
+    
+    private final Counter translatedBlocks;
+    private final Counter sentPackets;
+    private final Counter receivedPackets;
+    private final Counter sentBytes;
+    private final Counter receivedBytes;
+    private final LatencyHistogram translationLatency;
+    private final LatencyHistogram sendLatency;
+    private final LatencyHistogram decodeLatency;
+    
+    public MetricsRegistry(boolean enabled) {
+        this.enabled = enabled;
+        this.translatedBlocks = counter(TRANSLATED_BLOCKS, "Blocos traduzidos Java → Bedrock");
+        this.sentPackets = counter(SENT_PACKETS, "Pacotes enviados ao servidor Bedrock");
+        this.receivedPackets = counter(RECEIVED_PACKETS, "Pacotes recebidos do servidor Bedrock");
+        this.sentBytes = counter(SENT_BYTES, "Bytes escritos nos sockets Bedrock");
+        this.receivedBytes = counter(RECEIVED_BYTES, "Bytes lidos dos sockets Bedrock");
+        this.translationLatency = histogram(TRANSLATION_LATENCY, "Tempo de tradução de uma coluna de chunk");
+        this.sendLatency = histogram(SEND_LATENCY, "Tempo da chamada de envio até o pipeline");
+        this.decodeLatency = histogram(DECODE_LATENCY, "Tempo de decodificação e despacho de um pacote");
+    }
+    
+    /**
+     * Contador com o nome informado, criado na primeira chamada
+     */
+    public Counter counter(String name, String help) {
+        return counters.computeIfAbsent(name, n -> new Counter(n, help, enabled));
+    }
+    
+    /**
+     * Histograma de latência com o nome informado, criado na primeira chamada
+     */
+    public LatencyHistogram histogram(String name, String help) {
+        return histograms.computeIfAbsent(name, n -> new LatencyHistogram(n, help, enabled));
+    }
+    
+    /**
+     * Registra (ou substitui) um gauge calculado sob demanda
+     */
+    public Gauge gauge(String name, String help, DoubleSupplier supplier) {
+        return register(new Gauge(name, help, "", false, supplier));
+    }
+    
+    public Gauge gauge(String name, String help, String label, String labelValue, DoubleSupplier supplier) {
+        return register(new Gauge(name, help, labels(label, labelValue), false, supplier));
+    }
+    
+    /**
+     * Contagem acumulada mantida por outro subsistema (ex: hits de um cache)
+     */
+    public Gauge functionCounter(String name, String help, String label, String labelValue, DoubleSupplier supplier) {
+        return register(new Gauge(name, help, labels(label, labelValue), true, supplier));
+    }
+    
+    private Gauge register(Gauge gauge) {
+        gauges.put(gauge.getName() + '\0' + gauge.getLabels(), gauge);
+        return gauge;
+    }
+    
+    private static String labels(String label, String value) {
+        return '{' + label + "=\"" + value.replace("\\", "\\\\").replace("\"", "\\\"") + "\"}";
+    }
+    
+    public Collection<Counter> getCounters() {
+        return Collections.unmodifiableCollection(counters.values());
+    }
+    
+    public Collection<LatencyHistogram> getHistograms() {
+        return Collections.unmodifiableCollection(histograms.values());
+    }
+    
+    /**
+     * Gauges ordenados por nome; séries da mesma família são consecutivas
+     */
+    public Collection<Gauge> getGauges() {
+        return Collections.unmodifiableCollection(gauges.values());
+    }
+    
+    public boolean isEnabled() { return enabled; }
+    
+    public Counter translatedBlocks() { return translatedBlocks; }
+    public Counter sentPackets() { return sentPackets; }
+    public Counter receivedPackets() { return receivedPackets; }
+    public Counter sentBytes() { return sentBytes; }
+    public Counter receivedBytes() { return receivedBytes; }
+    public LatencyHistogram translationLatency() { return translationLatency; }
+    public LatencyHistogram sendLatency() { return sendLatency; }
+    public LatencyHistogram decodeLatency() { return decodeLatency; }
+}
@@ -0,0 +1,80 @@
+package com.javabedrock.bridge.metrics;
+
+import java.math.BigDecimal;
+
+/**
+ * Serialização do {@link MetricsRegistry} no formato texto do Prometheus (0.0.4)
+ */
+public final class PrometheusFormat {
+    public static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+    
+    private PrometheusFormat() {
+        throw new AssertionError("Classe utilitária não deve ser instanciada");
+    }
+    
+    public static String write(MetricsRegistry registry) {
+        StringBuilder out = new StringBuilder(4096);
+        
+        for (Counter counter : registry.getCounters()) {
+            header(out, counter.getName(), counter.getHelp(), "counter");
+            sample(out, counter.getName(), "", counter.sum());
+        }
+        
+        String family = null;
+        for (Gauge gauge : registry.getGauges()) {
+            if (!gauge.getName().equals(family)) {
+                family = gauge.getName();
+                header(out, family, gauge.getHelp(), gauge.isMonotonic() ? "counter" : "gauge");
+            }
+            double value;
+            try {
+                value = gauge.value();
+            } catch (RuntimeException e) {
+                continue; // subsistema ainda não inicializado
+            }
+            sample(out, family, gauge.getLabels(), value);
+        }
+        
+        long[] bounds = LatencyHistogram.getBucketBoundsMicros();
+        for (LatencyHistogram histogram : registry.getHistograms()) {
+            String name = histogram.getName();
+            header(out, name, histogram.getHelp(), "histogram");
+            
+            long[] counts = histogram.getBucketCounts();
+            long cumulative = 0;
+            for (int i = 0; i < bounds.length; i++) {
+                cumulative += counts[i];
+                sample(out, name + "_bucket", "{le=\"" + seconds(bounds[i]) + "\"}", cumulative);
+            }
+            cumulative += counts[bounds.length];
+            sample(out, name + "_bucket", "{le=\"+Inf\"}", cumulative);
+            sample(out, name + "_sum", "", histogram.sumNanos() / 1e9);
+            sample(out, name + "_count", "", cumulative);
+        }
+        return out.toString();
+    }
+    
+    private static void header(StringBuilder out, String name, String help, String type) {
+        out.append("# HELP ").append(name).append(' ')
+            .append(help.replace("\\", "\\\\").replace("\n", "\\n")).append('\n');
+        out.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+    }
+    
+    private static void sample(StringBuilder out, String name, String labels, double value) {
+        out.append(name).append(labels).append(' ');
+        if (Double.isNaN(value)) {
+            out.append("NaN");
+        } else if (Double.isInfinite(value)) {
+            out.append(value > 0 ? "+Inf" : "-Inf");
+        } else if (value == Math.rint(value) && Math.abs(value) < 1e15) {
+            out.append((long) value);
+        } else {
+            out.append(value);
+        }
+        out.append('\n');
+    }
+    
+    private static String seconds(long micros) {
+        return BigDecimal.valueOf(micros, 6).stripTrailingZeros().toPlainString();
+    }
+}
@@ -0,0 +1,101 @@
+package com.javabedrock.bridge.network;
+
+import com.javabedrock.bridge.util.ByteBufUtils;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.CorruptedFrameException;
+import io.netty.handler.codec.MessageToMessageDecoder;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * Desfaz os frames de batch Bedrock recebidos, o inverso do {@link BedrockBatchEncoder}
+ *
+ * Um frame {@code 0xFE} tem o byte do algoritmo e o payload, em raw deflate
+ * ou sem compressão; o payload descomprimido é dividido nos pacotes com
+ * prefixo de tamanho VarInt, entregues um a um como slices retidos, sem cópia.
+ * Frames sem o cabeçalho de batch seguem como um único pacote.
+ */
+public class BedrockBatchDecoder extends MessageToMessageDecoder<ByteBuf> {
+    /** Limite do batch descomprimido, contra frames que inflam sem parar */
+    private static final int MAX_INFLATED_BYTES = 8 * 1024 * 1024;
+    private static final int MIN_INFLATE_CHUNK = 1024;
+    
+    private Inflater inflater;
+    
+    @Override
+    protected void decode(ChannelHandlerContext ctx, ByteBuf frame, List<Object> out) {
+        if (!frame.isReadable() || frame.getUnsignedByte(frame.readerIndex()) != BedrockBatchEncoder.BATCH_HEADER) {
+            out.add(frame.retain());
+            return;
+        }
+        if (frame.readableBytes() < 2) {
+            throw new CorruptedFrameException("Frame de batch sem byte de compressão");
+        }
+        
+        frame.skipBytes(1);
+        int compression = frame.readUnsignedByte();
+        ByteBuf batch = switch (compression) {
+            case BedrockBatchEncoder.COMPRESSION_ZLIB -> inflate(ctx, frame);
+            case BedrockBatchEncoder.COMPRESSION_NONE -> frame.retain();
+            default -> throw new CorruptedFrameException("Compressão de batch desconhecida: 0x" + Integer.toHexString(compression));
+        };
+        
+        try {
+            while (batch.isReadable()) {
+                int length = ByteBufUtils.readVarInt(batch);
+                if (length < 0 || length > batch.readableBytes()) {
+                    throw new CorruptedFrameException("Pacote de " + length + " bytes excede o batch");
+                }
+                out.add(batch.readRetainedSlice(length));
+            }
+        } finally {
+            batch.release();
+        }
+    }
+    
+    private ByteBuf inflate(ChannelHandlerContext ctx, ByteBuf in) {
+        if (inflater == null) {
+            inflater = new Inflater(true); // raw deflate, sem cabeçalho zlib
+        }
+        
+        ByteBuf out = ctx.alloc().directBuffer(Math.max(MIN_INFLATE_CHUNK, in.readableBytes() * 2));
+        try {
+            inflater.setInput(in.nioBuffer());
+            while (!inflater.finished()) {
+                if (out.readableBytes() >= MAX_INFLATED_BYTES) {
+                    throw new CorruptedFrameException("Batch descomprimido passa de " + MAX_INFLATED_BYTES + " bytes");
+                }
+                out.ensureWritable(MIN_INFLATE_CHUNK);
+                ByteBuffer target = out.nioBuffer(out.writerIndex(), out.writableBytes());
+                int inflated = inflater.inflate(target);
+                if (inflated == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new CorruptedFrameException("Batch comprimido truncado");
+                }
+                out.writerIndex(out.writerIndex() + inflated);
+            }
+            in.skipBytes(in.readableBytes());
+            return out;
+        } catch (DataFormatException e) {
+            out.release();
+            throw new CorruptedFrameException("Batch comprimido inválido", e);
+        } catch (RuntimeException e) {
+            out.release();
+            throw e;
+        } finally {
+            inflater.reset();
+        }
+    }
+    
+    @Override
+    public void handlerRemoved(ChannelHandlerContext ctx) throws Exception {
+        if (inflater != null) {
+            inflater.end();
+            inflater = null;
+        }
+        super.handlerRemoved(ctx);
+    }
+}
@@ -0,0 +1,233 @@
+package com.javabedrock.bridge.network;
+
+import com.javabedrock.bridge.util.ByteBufUtils;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelFutureListener;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.ChannelPromise;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.Deflater;
+
+/**
+ * Agrupa os pacotes de saída em frames de batch Bedrock e os comprime
+ *
+ * Cada pacote escrito entra no batch com prefixo de tamanho VarInt; no flush
+ * (ou quando o batch atinge o limite) o frame é emitido com o cabeçalho
+ * {@code 0xFE}, o byte do algoritmo e o payload em raw deflate. A compressão
+ * usa o zlib nativo da JVM sobre buffers diretos, sem cópias para byte[].
+ */
+public class BedrockBatchEncoder extends ChannelOutboundHandlerAdapter {
+    private static final Logger LOGGER = LogManager.getLogger();
+    
+    public static final int BATCH_HEADER = 0xFE;
+    public static final int COMPRESSION_ZLIB = 0x00;
+    public static final int COMPRESSION_NONE = 0xFF;
+    
+    private static final int MAX_BATCH_BYTES = 512 * 1024;
+    private static final int MIN_DEFLATE_CHUNK = 1024;
+    
+    /**
+     * Falhas de escrita de frames sem promise acompanhada só são registradas:
+     * com a void promise elas virariam exceptionCaught e fechariam o canal
+     */
+    private static final ChannelFutureListener LOG_FAILURE = future -> {
+        if (!future.isSuccess()) {
+            LOGGER.warn("✗ Frame Bedrock falhou: {}", future.cause().getMessage());
+        }
+    };
+    
+    private final int threshold;
+    private final int level;
+    
+    private Deflater deflater;
+    private ByteBuf pending;
+    private final List<ChannelPromise> pendingPromises = new ArrayList<>();
+    
+    /**
+     * @param threshold tamanho mínimo do batch para comprimir (-1 = nunca)
+     * @param level nível de compressão deflate (0-9)
+     */
+    public BedrockBatchEncoder(int threshold, int level) {
+        this.threshold = threshold;
+        this.level = level;
+    }
+    
+    @Override
+    public void handlerAdded(ChannelHandlerContext ctx) {
+        if (threshold >= 0) {
+            deflater = new Deflater(level, true); // raw deflate, sem cabeçalho zlib
+        }
+    }
+    
+    @Override
+    public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) {
+        if (msg instanceof PacketBatch batch) {
+            appendBatch(ctx, batch, promise);
+            return;
+        }
+        if (!(msg instanceof ByteBuf packet)) {
+            // Não ultrapassar os pacotes já agrupados
+            emitBatch(ctx);
+            ctx.write(msg, promise);
+            return;
+        }
+        
+        try {
+            int length = packet.readableBytes();
+            if (length == 0) {
+                promise.trySuccess();
+                return;
+            }
+            
+            if (pending == null) {
+                pending = ctx.alloc().directBuffer(Math.max(256, length + 5));
+            }
+            ByteBufUtils.writeVarInt(pending, length);
+            pending.writeBytes(packet, packet.readerIndex(), length);
+            
+            if (!promise.isVoid()) {
+                pendingPromises.add(promise);
+            }
+        } finally {
+            packet.release();
+        }
+        
+        if (pending.readableBytes() >= MAX_BATCH_BYTES) {
+            emitBatch(ctx);
+        }
+    }
+    
+    /**
+     * Pacotes já com prefixo de tamanho entram no batch como estão
+     */
+    private void appendBatch(ChannelHandlerContext ctx, PacketBatch batch, ChannelPromise promise) {
+        try {
+            ByteBuf content = batch.content();
+            int length = content.readableBytes();
+            if (length == 0) {
+                promise.trySuccess();
+                return;
+            }
+            
+            if (pending == null) {
+                pending = ctx.alloc().directBuffer(Math.max(256, length));
+            }
+            pending.writeBytes(content, content.readerIndex(), length);
+            
+            if (!promise.isVoid()) {
+                pendingPromises.add(promise);
+            }
+        } finally {
+            batch.release();
+        }
+        
+        if (pending.readableBytes() >= MAX_BATCH_BYTES) {
+            emitBatch(ctx);
+        }
+    }
+    
+    @Override
+    public void flush(ChannelHandlerContext ctx) {
+        emitBatch(ctx);
+        ctx.flush();
+    }
+    
+    private void emitBatch(ChannelHandlerContext ctx) {
+        if (pending == null || !pending.isReadable()) {
+            return;
+        }
+        
+        ByteBuf batch = pending;
+        pending = null;
+        ChannelPromise promise = aggregatePromise(ctx);
+        
+        ByteBuf frame = null;
+        try {
+            int size = batch.readableBytes();
+            if (deflater != null && size >= threshold) {
+                frame = ctx.alloc().directBuffer(size / 2 + 16);
+                frame.writeByte(BATCH_HEADER);
+                frame.writeByte(COMPRESSION_ZLIB);
+                deflate(batch, frame);
+            } else {
+                frame = ctx.alloc().directBuffer(size + 2);
+                frame.writeByte(BATCH_HEADER);
+                frame.writeByte(COMPRESSION_NONE);
+                frame.writeBytes(batch);
+            }
+            ctx.write(frame, promise);
+        } catch (Exception e) {
+            if (frame != null) {
+                frame.release();
+            }
+            LOGGER.error("Erro ao montar batch Bedrock", e);
+            promise.tryFailure(e);
+        } finally {
+            batch.release();
+        }
+    }
+    
+    private void deflate(ByteBuf in, ByteBuf out) {
+        try {
+            deflater.setInput(in.nioBuffer());
+            deflater.finish();
+            while (!deflater.finished()) {
+                out.ensureWritable(Math.max(MIN_DEFLATE_CHUNK, in.readableBytes() / 4));
+                ByteBuffer target = out.nioBuffer(out.writerIndex(), out.writableBytes());
+                out.writerIndex(out.writerIndex() + deflater.deflate(target));
+            }
+        } finally {
+            deflater.reset();
+        }
+    }
+    
+    /**
+     * Uma única promise para o frame, repassando o resultado às promises
+     * de cada pacote do batch. Se ninguém acompanha (envios com a void
+     * promise) a falha do frame é apenas registrada no log.
+     */
+    private ChannelPromise aggregatePromise(ChannelHandlerContext ctx) {
+        if (pendingPromises.isEmpty()) {
+            ChannelPromise promise = ctx.newPromise();
+            promise.addListener(LOG_FAILURE);
+            return promise;
+        }
+        
+        ChannelPromise[] promises = pendingPromises.toArray(new ChannelPromise[0]);
+        pendingPromises.clear();
+        
+        ChannelPromise aggregate = ctx.newPromise();
+        aggregate.addListener((ChannelFutureListener) future -> {
+            for (ChannelPromise p : promises) {
+                if (future.isSuccess()) {
+                    p.trySuccess();
+                } else {
+                    p.tryFailure(future.cause());
+                }
+            }
+        });
+        return aggregate;
+    }
+    
+    @Override
+    public void handlerRemoved(ChannelHandlerContext ctx) {
+        if (pending != null) {
+            pending.release();
+            pending = null;
+        }
+        for (ChannelPromise p : pendingPromises) {
+            p.tryFailure(new IllegalStateException("Canal fechado antes do flush do batch"));
+        }
+        pendingPromises.clear();
+        if (deflater != null) {
+            deflater.end();
+            deflater = null;
+        }
+    }
+}
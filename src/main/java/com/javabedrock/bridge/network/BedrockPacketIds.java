@@ -0,0 +1,17 @@
+package com.javabedrock.bridge.network;
+
+/**
+ * IDs dos pacotes Bedrock tratados pela ponte
+ */
+public final class BedrockPacketIds {
+    public static final int DISCONNECT = 0x05;
+    public static final int TEXT = 0x09;
+    public static final int UPDATE_BLOCK = 0x15;
+    public static final int LEVEL_CHUNK = 0x3A;
+    public static final int CHUNK_RADIUS_UPDATED = 0x46;
+    public static final int MOVE_ENTITY_DELTA = 0x6F;
+    public static final int NETWORK_STACK_LATENCY = 0x73;
+    public static final int UPDATE_SUB_CHUNK_BLOCKS = 0xAC;
+    
+    private BedrockPacketIds() {}
+}
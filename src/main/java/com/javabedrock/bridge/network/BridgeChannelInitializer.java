@@ -5,6 +5,7 @@ import io.netty.channel.ChannelPipeline;
 import io.netty.channel.socket.SocketChannel;
 import io.netty.handler.codec.LengthFieldBasedFrameDecoder;
 import io.netty.handler.codec.LengthFieldPrepender;
+import io.netty.handler.flush.FlushConsolidationHandler;
 import com.javabedrock.bridge.core.BridgeCore;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -14,27 +15,68 @@ import org.apache.logging.log4j.Logger;
  */
 public class BridgeChannelInitializer extends ChannelInitializer<SocketChannel> {
     private static final Logger LOGGER = LogManager.getLogger();
+    private static final int MAX_FRAME_LENGTH = 1024 * 1024;
     
     private final BridgeCore bridge;
+    private final TrafficMetricsHandler trafficMetrics;
     
     public BridgeChannelInitializer(BridgeCore bridge) {
         this.bridge = bridge;
+        this.trafficMetrics = bridge.getMetrics().isEnabled()
+            ? new TrafficMetricsHandler(bridge.getMetrics())
+            : null;
     }
     
     @Override
     protected void initChannel(SocketChannel ch) {
         ChannelPipeline pipeline = ch.pipeline();
         
+        // Contagem de bytes do socket - primeiro handler, vê os frames já codificados
+        if (trafficMetrics != null) {
+            pipeline.addLast("trafficMetrics", trafficMetrics);
+        }
+        
         // Frame decoder - determina limites de mensagens
-        pipeline.addLast("frameDecoder",
-            new LengthFieldBasedFrameDecoder(1024 * 1024, 0, 4, -4, 4));
+        pipeline.addLast("frameDecoder", newFrameDecoder());
+        
+        // Batch decoder - descomprime os frames Bedrock e separa os pacotes
+        pipeline.addLast("batchDecoder", new BedrockBatchDecoder());
         
         // Frame encoder - adiciona tamanho da mensagem
-        pipeline.addLast("frameEncoder", new LengthFieldPrepender(4));
+        pipeline.addLast("frameEncoder", newFrameEncoder());
+        
+        // Batch encoder - agrupa pacotes em frames Bedrock comprimidos
+        pipeline.addLast("batchEncoder", new BedrockBatchEncoder(
+            bridge.getConfig().COMPRESSION_THRESHOLD.get(),
+            bridge.getConfig().COMPRESSION_LEVEL.get()));
+        
+        // Consolidação de flush - agrupa flushes por iteração do event loop
+        // ou a cada N escritas. Fica do lado da cauda do batch encoder: é o
+        // flush consolidado que fecha o batch, então uma rajada de envios vira
+        // um único frame comprimido em vez de um frame por pacote
+        int flushAfter = bridge.getConfig().FLUSH_CONSOLIDATION.get();
+        if (flushAfter > 0) {
+            pipeline.addLast("flushConsolidation", newFlushConsolidation(flushAfter));
+        }
         
         // Handler customizado para pacotes Bedrock
         pipeline.addLast("bedrockHandler", new BridgePacketHandler(bridge));
         
+        // Backpressure de saída - último handler, é o primeiro a ver cada escrita
+        pipeline.addLast("backpressure", new OutboundBackpressureHandler(bridge.getMetrics()));
+        
         LOGGER.debug("Canal inicializado: {}", ch.remoteAddress());
     }
+    
+    static LengthFieldBasedFrameDecoder newFrameDecoder() {
+        return new LengthFieldBasedFrameDecoder(MAX_FRAME_LENGTH, 0, 4, -4, 4);
+    }
+    
+    static LengthFieldPrepender newFrameEncoder() {
+        return new LengthFieldPrepender(4);
+    }
+    
+    static FlushConsolidationHandler newFlushConsolidation(int flushAfter) {
+        return new FlushConsolidationHandler(flushAfter, true);
+    }
 }
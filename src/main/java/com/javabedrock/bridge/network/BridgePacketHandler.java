@@ -1,28 +1,55 @@
 package com.javabedrock.bridge.network;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.channel.Channel;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.SimpleChannelInboundHandler;
 import com.javabedrock.bridge.core.BridgeCore;
+import com.javabedrock.bridge.metrics.MetricsRegistry;
+import com.javabedrock.bridge.util.ByteBufUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 /**
  * Handler de pacotes Bedrock otimizado
+ *
+ * Na thread de I/O apenas o ID do pacote é decodificado; o payload segue
+ * para uma fila ordenada por canal processada fora do event loop.
  */
 public class BridgePacketHandler extends SimpleChannelInboundHandler<ByteBuf> {
     private static final Logger LOGGER = LogManager.getLogger();
     
     private final BridgeCore bridge;
+    private final PacketRegistry registry;
+    private final MetricsRegistry metrics;
     private String remoteAddress;
+    private OrderedPacketExecutor packetQueue;
     
     public BridgePacketHandler(BridgeCore bridge) {
+        // Liberação manual: o buffer passa a pertencer à fila de processamento
+        super(false);
         this.bridge = bridge;
+        this.registry = bridge.getNetworkManager().getPacketRegistry();
+        this.metrics = bridge.getMetrics();
     }
     
     @Override
     public void channelActive(ChannelHandlerContext ctx) {
         this.remoteAddress = ctx.channel().remoteAddress().toString();
+        this.packetQueue = new OrderedPacketExecutor(
+            bridge.getNetworkManager().getPacketExecutor(),
+            ctx.channel().eventLoop(),
+            (packetId, payload) -> processPacket(ctx, packetId, payload),
+            () -> {
+                ctx.channel().config().setAutoRead(false);
+                LOGGER.debug("Fila cheia, leitura pausada: {}", remoteAddress);
+            },
+            () -> {
+                ctx.channel().config().setAutoRead(true);
+                LOGGER.debug("Leitura retomada: {}", remoteAddress);
+            },
+            bridge.getConfig().PACKET_QUEUE_SIZE.get());
+        
         LOGGER.info("Canal ativo: {}", remoteAddress);
         ctx.fireChannelActive();
     }
@@ -31,28 +58,46 @@ public class BridgePacketHandler extends SimpleChannelInboundHandler<ByteBuf> {
     protected void channelRead0(ChannelHandlerContext ctx, ByteBuf msg) {
         try {
             int readableBytes = msg.readableBytes();
+            metrics.receivedPackets().increment();
             
             if (bridge.isDebugMode()) {
                 LOGGER.debug("◄ Pacote recebido: {} bytes de {}", readableBytes, remoteAddress);
             }
             
-            // Processa o pacote
-            processPacket(msg, readableBytes);
+            int packetId = ByteBufUtils.readVarInt(msg) & PacketRegistry.MAX_PACKET_ID;
             
+            if (!packetQueue.enqueue(packetId, msg)) {
+                LOGGER.debug("Pacote 0x{} descartado - fila de {} cheia",
+                    Integer.toHexString(packetId), remoteAddress);
+            }
         } catch (Exception e) {
-            LOGGER.error("Erro ao processar pacote", e);
-        } finally {
+            LOGGER.error("Erro ao decodificar pacote", e);
             msg.release();
         }
     }
     
-    private void processPacket(ByteBuf buf, int size) {
-        // TODO: Implementar processamento de pacotes Bedrock
-        if (bridge.isDebugMode()) {
-            LOGGER.debug("Processando pacote de {} bytes", size);
+    /**
+     * Despacha um pacote já decodificado pela tabela de IDs; executa fora do event loop
+     */
+    private void processPacket(ChannelHandlerContext ctx, int packetId, ByteBuf buf) throws Exception {
+        long start = metrics.decodeLatency().startTimer();
+        boolean handled = registry.dispatch(ctx.channel(), packetId, buf);
+        metrics.decodeLatency().recordSince(start);
+        
+        if (!handled && bridge.isDebugMode()) {
+            LOGGER.debug("Pacote 0x{} sem handler ({} bytes)", Integer.toHexString(packetId), buf.readableBytes());
         }
     }
     
+    /**
+     * Pacotes na fila de processamento do canal (0 se o canal não usa este handler)
+     */
+    static int queuedPackets(Channel channel) {
+        BridgePacketHandler handler = channel.pipeline().get(BridgePacketHandler.class);
+        OrderedPacketExecutor queue = handler != null ? handler.packetQueue : null;
+        return queue != null ? queue.size() : 0;
+    }
+    
     @Override
     public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) {
         LOGGER.error("Erro no canal com {}: {}", remoteAddress, cause.getMessage());
@@ -62,6 +107,9 @@ public class BridgePacketHandler extends SimpleChannelInboundHandler<ByteBuf> {
     @Override
     public void channelInactive(ChannelHandlerContext ctx) {
         LOGGER.warn("Canal desconectado: {}", remoteAddress);
-        bridge.getNetworkManager().reconnect();
+        if (packetQueue != null) {
+            packetQueue.close();
+        }
+        bridge.getNetworkManager().onChannelInactive(ctx.channel());
     }
 }
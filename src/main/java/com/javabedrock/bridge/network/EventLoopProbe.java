@@ -0,0 +1,140 @@
+package com.javabedrock.bridge.network;
+
+import com.javabedrock.bridge.metrics.LatencyHistogram;
+import com.javabedrock.bridge.metrics.MetricsRegistry;
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.EventExecutorGroup;
+import io.netty.util.concurrent.SingleThreadEventExecutor;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sonda de atraso dos event loops de rede
+ *
+ * A cada intervalo uma tarefa vazia com o horário de envio é colocada em cada
+ * event loop; o atraso é o tempo até ela ser executada. Enquanto a tarefa
+ * anterior não roda nenhuma nova é enviada, e o atraso de um loop travado
+ * continua crescendo a partir do envio pendente. Acima do limite o listener
+ * é avisado uma vez por episódio, fora das threads de I/O.
+ */
+final class EventLoopProbe {
+    private static final Logger LOGGER = LogManager.getLogger();
+    
+    @FunctionalInterface
+    interface LagListener {
+        void onLag(int loopIndex, long lagMillis, int pendingTasks);
+    }
+    
+    private final List<LoopState> loops = new ArrayList<>();
+    private final LatencyHistogram lagHistogram;
+    private final long thresholdNanos;
+    private final LagListener listener;
+    private ScheduledFuture<?> task;
+    
+    EventLoopProbe(EventExecutorGroup group, MetricsRegistry metrics, long thresholdMillis, LagListener listener) {
+        this.thresholdNanos = TimeUnit.MILLISECONDS.toNanos(thresholdMillis);
+        this.listener = listener;
+        this.lagHistogram = metrics.histogram("j2b_event_loop_lag_seconds",
+            "Atraso entre o agendamento e a execução de uma tarefa nos event loops");
+        
+        for (EventExecutor executor : group) {
+            LoopState state = new LoopState(loops.size(), executor);
+            loops.add(state);
+            String index = String.valueOf(state.index);
+            metrics.gauge("j2b_event_loop_current_lag_seconds", "Último atraso medido em cada event loop",
+                "loop", index, () -> state.currentLagNanos(System.nanoTime()) / 1e9);
+            metrics.gauge("j2b_event_loop_pending_tasks", "Tarefas na fila de cada event loop",
+                "loop", index, state::pendingTasks);
+        }
+    }
+    
+    void start(ScheduledExecutorService scheduler, long intervalMillis) {
+        task = scheduler.scheduleAtFixedRate(this::tick, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        LOGGER.debug("Sonda de event loop ativa: {} loops a cada {}ms", loops.size(), intervalMillis);
+    }
+    
+    void stop() {
+        if (task != null) {
+            task.cancel(false);
+            task = null;
+        }
+    }
+    
+    /**
+     * Nada pode escapar daqui: uma exceção cancelaria o agendamento da sonda
+     */
+    private void tick() {
+        try {
+            long now = System.nanoTime();
+            for (LoopState state : loops) {
+                if (state.executor.isShuttingDown()) {
+                    continue;
+                }
+                check(state, now);
+                if (state.sentAt == 0L) {
+                    state.sentAt = now;
+                    state.executor.execute(state::complete);
+                }
+            }
+        } catch (Throwable t) {
+            LOGGER.debug("Erro na sonda de event loop", t);
+        }
+    }
+    
+    /**
+     * Avisa na entrada de um episódio de atraso; o aviso seguinte só sai
+     * depois que o loop voltar abaixo do limite
+     */
+    private void check(LoopState state, long now) {
+        long lag = state.currentLagNanos(now);
+        if (lag <= thresholdNanos) {
+            state.stalled = false;
+            return;
+        }
+        if (!state.stalled) {
+            state.stalled = true;
+            listener.onLag(state.index, TimeUnit.NANOSECONDS.toMillis(lag), state.pendingTasks());
+        }
+    }
+    
+    private final class LoopState {
+        final int index;
+        final EventExecutor executor;
+        volatile long sentAt;
+        volatile long lastLagNanos;
+        boolean stalled; // só acessado pela thread do tick
+        
+        LoopState(int index, EventExecutor executor) {
+            this.index = index;
+            this.executor = executor;
+        }
+        
+        /**
+         * Executa no event loop: o mínimo possível
+         */
+        void complete() {
+            long lag = System.nanoTime() - sentAt;
+            lastLagNanos = lag;
+            lagHistogram.record(lag);
+            sentAt = 0L;
+        }
+        
+        /**
+         * Atraso da última sonda ou, se ainda pendente, o tempo desde o envio
+         */
+        long currentLagNanos(long now) {
+            long pendingSince = sentAt;
+            return pendingSince != 0L ? Math.max(lastLagNanos, now - pendingSince) : lastLagNanos;
+        }
+        
+        int pendingTasks() {
+            return executor instanceof SingleThreadEventExecutor loop ? loop.pendingTasks() : 0;
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.javabedrock.bridge.network;
+
+import com.javabedrock.bridge.metrics.MetricsRegistry;
+import com.javabedrock.bridge.metrics.PrometheusFormat;
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFutureListener;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.channel.epoll.EpollEventLoopGroup;
+import io.netty.channel.epoll.EpollServerSocketChannel;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.handler.codec.http.DefaultFullHttpResponse;
+import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaderValues;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpObject;
+import io.netty.handler.codec.http.HttpRequest;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpServerCodec;
+import io.netty.handler.codec.http.HttpUtil;
+import io.netty.handler.codec.http.QueryStringDecoder;
+import io.netty.handler.timeout.ReadTimeoutHandler;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Endpoint HTTP {@code /metrics} no formato do Prometheus
+ *
+ * Roda no mesmo EventLoopGroup dos canais Bedrock: o scrape é raro e barato
+ * (somas de LongAdder e leitura de gauges), então não justifica threads
+ * próprias.
+ */
+final class MetricsHttpServer {
+    private static final Logger LOGGER = LogManager.getLogger();
+    private static final String PATH = "/metrics";
+    private static final int IDLE_TIMEOUT_SECONDS = 60;
+    
+    private final MetricsRegistry metrics;
+    private Channel serverChannel;
+    
+    MetricsHttpServer(MetricsRegistry metrics) {
+        this.metrics = metrics;
+    }
+    
+    void start(EventLoopGroup group, String host, int port) throws InterruptedException {
+        serverChannel = new ServerBootstrap()
+            .group(group)
+            .channel(group instanceof EpollEventLoopGroup ? EpollServerSocketChannel.class : NioServerSocketChannel.class)
+            .childOption(ChannelOption.TCP_NODELAY, true)
+            .childHandler(new ChannelInitializer<SocketChannel>() {
+                @Override
+                protected void initChannel(SocketChannel ch) {
+                    ch.pipeline()
+                        .addLast("timeout", new ReadTimeoutHandler(IDLE_TIMEOUT_SECONDS))
+                        .addLast("http", new HttpServerCodec())
+                        .addLast("metrics", new ScrapeHandler(metrics));
+                }
+            })
+            .bind(host, port).sync().channel();
+        
+        LOGGER.info("✓ Endpoint de métricas em http://{}:{}{}", host, port, PATH);
+    }
+    
+    void stop() {
+        if (serverChannel != null) {
+            serverChannel.close().syncUninterruptibly();
+            serverChannel = null;
+        }
+    }
+    
+    private static final class ScrapeHandler extends SimpleChannelInboundHandler<HttpObject> {
+        private final MetricsRegistry metrics;
+        
+        ScrapeHandler(MetricsRegistry metrics) {
+            this.metrics = metrics;
+        }
+        
+        @Override
+        protected void channelRead0(ChannelHandlerContext ctx, HttpObject msg) {
+            if (!(msg instanceof HttpRequest request)) {
+                return; // corpo da requisição (se houver) é ignorado
+            }
+            
+            HttpResponseStatus status;
+            String body;
+            if (request.method() != HttpMethod.GET) {
+                status = HttpResponseStatus.METHOD_NOT_ALLOWED;
+                body = "";
+            } else if (!PATH.equals(new QueryStringDecoder(request.uri()).path())) {
+                status = HttpResponseStatus.NOT_FOUND;
+                body = "";
+            } else {
+                status = HttpResponseStatus.OK;
+                body = PrometheusFormat.write(metrics);
+            }
+            
+            ByteBuf content = ByteBufUtil.writeUtf8(ctx.alloc(), body);
+            FullHttpResponse response = new DefaultFullHttpResponse(request.protocolVersion(), status, content);
+            response.headers()
+                .set(HttpHeaderNames.CONTENT_TYPE, PrometheusFormat.CONTENT_TYPE)
+                .setInt(HttpHeaderNames.CONTENT_LENGTH, content.readableBytes());
+            
+            boolean keepAlive = HttpUtil.isKeepAlive(request);
+            if (keepAlive) {
+                response.headers().set(HttpHeaderNames.CONNECTION, HttpHeaderValues.KEEP_ALIVE);
+                ctx.writeAndFlush(response, ctx.voidPromise());
+            } else {
+                ctx.writeAndFlush(response).addListener(ChannelFutureListener.CLOSE);
+            }
+        }
+        
+        @Override
+        public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) {
+            LOGGER.debug("Erro no endpoint de métricas: {}", cause.getMessage());
+            ctx.close();
+        }
+    }
+}
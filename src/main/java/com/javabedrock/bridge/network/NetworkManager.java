@@ -2,6 +2,7 @@ package com.javabedrock.bridge.network;
 
 import io.netty.bootstrap.Bootstrap;
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
 import io.netty.buffer.PooledByteBufAllocator;
 import io.netty.channel.*;
 import io.netty.channel.epoll.Epoll;
@@ -9,35 +10,152 @@ import io.netty.channel.epoll.EpollEventLoopGroup;
 import io.netty.channel.epoll.EpollSocketChannel;
 import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.channel.socket.nio.NioSocketChannel;
+import io.netty.util.AttributeKey;
 import com.javabedrock.bridge.core.BridgeCore;
+import com.javabedrock.bridge.data.PlayerSession;
+import com.javabedrock.bridge.data.SessionGrid;
+import com.javabedrock.bridge.event.BridgeEvents;
+import com.javabedrock.bridge.metrics.Counter;
+import com.javabedrock.bridge.metrics.MetricsRegistry;
+import com.javabedrock.bridge.util.ByteBufUtils;
+import com.javabedrock.bridge.util.PerformanceUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.Objects;
 
 /**
  * Gerenciador otimizado de conexão de rede com o Bedrock
+ *
+ * Mantém um pool de conexões (ou um canal por sessão) distribuído entre as
+ * threads do mesmo EventLoopGroup; o slot 0 do pool é o canal principal.
  */
 public class NetworkManager {
     private static final Logger LOGGER = LogManager.getLogger();
     private static final int HEALTH_CHECK_INTERVAL_SECONDS = 30;
     private static final int RECONNECT_DELAY_SECONDS = 5;
     private static final long INACTIVITY_THRESHOLD_MS = 30000;
+    /** Resolução de lastActivity no caminho de envio */
+    private static final long ACTIVITY_RESOLUTION_MS = 1000;
+    private static final long CHUNK_TICK_MS = 50;
+    private static final AttributeKey<Integer> POOL_SLOT = AttributeKey.valueOf("j2b.poolSlot");
+    private static final AttributeKey<PlayerSession> SESSION = AttributeKey.valueOf("j2b.session");
     
     private final BridgeCore bridge;
+    private final MetricsRegistry metrics;
+    private final Counter entityMoves;
+    private final ByteBufAllocator allocator = PooledByteBufAllocator.DEFAULT;
+    private final PacketRegistry packetRegistry = new PacketRegistry();
+    
     private EventLoopGroup workerGroup;
-    private Channel bedrockChannel;
+    private ExecutorService packetExecutor;
+    private MetricsHttpServer metricsServer;
+    private EventLoopProbe eventLoopProbe;
+    private Bootstrap bootstrap;
+    private volatile AtomicReferenceArray<Channel> pool = new AtomicReferenceArray<>(1);
+    private final Set<Integer> connectingSlots = ConcurrentHashMap.newKeySet();
     private final AtomicLong lastActivity = new AtomicLong();
+    private final ConcurrentMap<UUID, PlayerSession> sessions = new ConcurrentHashMap<>();
+    private final SessionGrid sessionGrid = new SessionGrid();
     
     private volatile boolean initialized = false;
-    private volatile boolean connecting = false;
+    private volatile boolean perSessionChannels = false;
+    
+    // Listener único compartilhado por todos os envios acompanhados
+    private final ChannelFutureListener sendListener = this::onSendComplete;
     
     public NetworkManager(BridgeCore bridge) {
+        this(bridge, Objects.requireNonNull(bridge, "bridge não pode ser nulo").getMetrics());
+    }
+    
+    /**
+     * Construtor com o registro de métricas explícito, para os benchmarks
+     * que não conseguem montar um BridgeCore completo
+     */
+    NetworkManager(BridgeCore bridge, MetricsRegistry metrics) {
         this.bridge = Objects.requireNonNull(bridge, "bridge não pode ser nulo");
+        this.metrics = Objects.requireNonNull(metrics, "metrics não pode ser nulo");
+        this.entityMoves = metrics.counter("j2b_entity_moves_total", "Deltas de movimento de entidades enviados");
         this.lastActivity.set(System.currentTimeMillis());
+        registerDefaultHandlers();
+        registerGauges();
+    }
+    
+    /**
+     * Handlers dos pacotes que a própria ponte responde
+     */
+    private void registerDefaultHandlers() {
+        packetRegistry.register(BedrockPacketIds.NETWORK_STACK_LATENCY, (channel, payload) -> {
+            long timestamp = payload.readLongLE();
+            if (payload.readBoolean()) {
+                ByteBuf reply = allocator.directBuffer(10);
+                ByteBufUtils.writeVarInt(reply, BedrockPacketIds.NETWORK_STACK_LATENCY);
+                reply.writeLongLE(timestamp);
+                reply.writeBoolean(false);
+                send(channel, reply);
+            }
+        });
+        
+        packetRegistry.register(BedrockPacketIds.CHUNK_RADIUS_UPDATED, (channel, payload) -> {
+            int radius = ByteBufUtils.readZigZagVarInt(payload);
+            LOGGER.debug("Raio de chunks atualizado pelo servidor: {}", radius);
+            // Só um canal dedicado identifica a sessão a que o raio se refere
+            PlayerSession session = channel.attr(SESSION).get();
+            if (session != null) {
+                updateViewDistance(session, radius);
+            }
+        });
+    }
+    
+    /**
+     * Profundidade das filas e conexões, lidas a cada scrape
+     */
+    private void registerGauges() {
+        metrics.gauge("j2b_sessions", "Sessões de jogadores registradas", sessions::size);
+        metrics.gauge("j2b_open_channels", "Canais Bedrock abertos", () -> openChannels().size());
+        metrics.gauge("j2b_unwritable_channels", "Canais com o buffer de saída acima da marca alta",
+            () -> openChannels().stream().filter(c -> !c.isWritable()).count());
+        metrics.gauge("j2b_inbound_queue_depth", "Pacotes recebidos aguardando processamento",
+            () -> openChannels().stream().mapToInt(BridgePacketHandler::queuedPackets).sum());
+        metrics.gauge("j2b_chunk_queue_depth", "Chunks aguardando envio",
+            () -> sessions.values().stream().mapToInt(s -> s.getChunkQueue().size()).sum());
+        metrics.gauge("j2b_chunk_queue_bytes", "Bytes de chunks aguardando envio",
+            () -> sessions.values().stream().mapToLong(s -> s.getChunkQueue().getQueuedBytes()).sum());
+    }
+    
+    private List<Channel> openChannels() {
+        List<Channel> channels = new ArrayList<>();
+        AtomicReferenceArray<Channel> current = pool;
+        for (int slot = 0; slot < current.length(); slot++) {
+            Channel channel = current.get(slot);
+            if (channel != null && channel.isActive()) {
+                channels.add(channel);
+            }
+        }
+        for (PlayerSession session : sessions.values()) {
+            Channel dedicated = session.getChannel();
+            if (dedicated != null && dedicated.isActive() && !channels.contains(dedicated)) {
+                channels.add(dedicated);
+            }
+        }
+        return channels;
     }
     
     public void initialize() {
@@ -49,8 +167,13 @@ public class NetworkManager {
         try {
             long startTime = System.currentTimeMillis();
             createEventLoopGroup();
+            createPacketExecutor();
+            createBootstrap();
             connect();
             startHealthMonitor();
+            startEventLoopProbe();
+            startChunkSender();
+            startMetricsServer();
             initialized = true;
             
             long elapsed = System.currentTimeMillis() - startTime;
@@ -61,6 +184,27 @@ public class NetworkManager {
         }
     }
     
+    /**
+     * Endpoint Prometheus no mesmo EventLoopGroup, se métricas e porta estiverem ativas
+     */
+    private void startMetricsServer() {
+        int port = bridge.getConfig().METRICS_PORT.get();
+        if (!metrics.isEnabled() || port <= 0) {
+            return;
+        }
+        
+        try {
+            metricsServer = new MetricsHttpServer(metrics);
+            metricsServer.start(workerGroup, bridge.getConfig().METRICS_HOST.get(), port);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            // Métricas são opcionais: a ponte continua sem o endpoint
+            LOGGER.error("✗ Falha ao abrir endpoint de métricas na porta {}", port, e);
+            metricsServer = null;
+        }
+    }
+    
     private void createEventLoopGroup() {
         int threads = calculateThreadCount();
         
@@ -90,6 +234,30 @@ public class NetworkManager {
         }
     }
     
+    /**
+     * Executor compartilhado onde os pacotes de entrada são processados,
+     * fora das threads de I/O do Netty
+     */
+    private void createPacketExecutor() {
+        if (bridge.getConfig().VIRTUAL_THREAD_DECODING.get()) {
+            packetExecutor = PerformanceUtils.newVirtualThreadExecutor("JBB-Packet-");
+            if (packetExecutor != null) {
+                LOGGER.info("✓ Processamento de pacotes em virtual threads");
+                return;
+            }
+            LOGGER.warn("⚠ Virtual threads não suportadas nesta JVM, usando pool de plataforma");
+        }
+        
+        int threads = Math.max(2, Runtime.getRuntime().availableProcessors());
+        final AtomicInteger threadCounter = new AtomicInteger(0);
+        packetExecutor = Executors.newFixedThreadPool(threads, r -> {
+            Thread t = new Thread(r, "JBB-Packet-" + threadCounter.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        LOGGER.info("► Processamento de pacotes em pool de {} threads", threads);
+    }
+    
     private int calculateThreadCount() {
         Objects.requireNonNull(bridge, "bridge não pode ser nulo");
         try {
@@ -113,115 +281,394 @@ public class NetworkManager {
         }
     }
     
+    private void createBootstrap() {
+        var config = bridge.getConfig();
+        int poolSize = config.CONNECTION_POOL_SIZE.get();
+        this.pool = new AtomicReferenceArray<>(poolSize);
+        this.perSessionChannels = config.PER_SESSION_CHANNELS.get();
+        
+        // Cada connect() pega o próximo event loop do grupo (round-robin),
+        // espalhando os canais entre as threads de I/O
+        this.bootstrap = new Bootstrap()
+            .group(workerGroup)
+            .channel(Epoll.isAvailable() ? EpollSocketChannel.class : NioSocketChannel.class)
+            .option(ChannelOption.ALLOCATOR, allocator)
+            .option(ChannelOption.SO_KEEPALIVE, true)
+            .option(ChannelOption.TCP_NODELAY, true)
+            .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, config.CONNECTION_TIMEOUT.get())
+            .option(ChannelOption.SO_LINGER, 0)
+            .option(ChannelOption.WRITE_BUFFER_WATER_MARK, new WriteBufferWaterMark(
+                config.WRITE_BUFFER_LOW_KB.get() * 1024,
+                Math.max(config.WRITE_BUFFER_LOW_KB.get(), config.WRITE_BUFFER_HIGH_KB.get()) * 1024))
+            .handler(new BridgeChannelInitializer(bridge));
+        
+        LOGGER.info("Pool de conexões: {} canal(is), canal por sessão: {}",
+            poolSize, perSessionChannels ? "sim" : "não");
+    }
+    
     private void connect() {
-        if (connecting) {
-            LOGGER.debug("Conexão já em progresso");
+        for (int slot = 0; slot < pool.length(); slot++) {
+            connectSlot(slot);
+        }
+    }
+    
+    private void connectSlot(int slot) {
+        Channel existing = pool.get(slot);
+        if (existing != null && existing.isActive()) {
+            return;
+        }
+        if (!connectingSlots.add(slot)) {
+            LOGGER.debug("Conexão do slot {} já em progresso", slot);
             return;
         }
-        
-        connecting = true;
         
         try {
             String host = bridge.getConfig().BEDROCK_HOST.get();
             int port = bridge.getConfig().BEDROCK_PORT.get();
-            int timeout = bridge.getConfig().CONNECTION_TIMEOUT.get();
             
-            LOGGER.debug("Iniciando conexão com {}:{}...", host, port);
+            LOGGER.debug("Iniciando conexão {} com {}:{}...", slot, host, port);
             
-            new Bootstrap()
-                .group(workerGroup)
-                .channel(Epoll.isAvailable() ? EpollSocketChannel.class : NioSocketChannel.class)
-                .option(ChannelOption.ALLOCATOR, PooledByteBufAllocator.DEFAULT)
-                .option(ChannelOption.SO_KEEPALIVE, true)
-                .option(ChannelOption.TCP_NODELAY, true)
-                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, timeout)
-                .option(ChannelOption.SO_LINGER, 0)
-                .handler(new BridgeChannelInitializer(bridge))
-                .connect(host, port)
+            bootstrap.connect(host, port)
                 .addListener((ChannelFuture future) -> {
-                    connecting = false;
+                    connectingSlots.remove(slot);
                     
                     if (future.isSuccess()) {
-                        onConnectionSuccess(future);
+                        onConnectionSuccess(slot, future);
                     } else {
-                        onConnectionFailure(future);
+                        onConnectionFailure(slot, future);
                     }
                 });
         } catch (Exception e) {
-            connecting = false;
+            connectingSlots.remove(slot);
             LOGGER.error("Erro ao iniciar conexão", e);
-            scheduleReconnect();
+            scheduleReconnect(slot);
         }
     }
     
-    private void onConnectionSuccess(ChannelFuture future) {
-        bedrockChannel = future.channel();
+    private void onConnectionSuccess(int slot, ChannelFuture future) {
+        Channel channel = future.channel();
+        channel.attr(POOL_SLOT).set(slot);
+        Channel previous = pool.getAndSet(slot, channel);
+        if (previous != null && previous != channel) {
+            previous.close();
+        }
         lastActivity.set(System.currentTimeMillis());
-        LOGGER.info("✓ Conectado ao servidor Bedrock em {}:{}", 
-            bedrockChannel.remoteAddress(), bedrockChannel.localAddress());
+        LOGGER.info("✓ Conectado ao servidor Bedrock em {}:{} (slot {})", 
+            channel.remoteAddress(), channel.localAddress(), slot);
     }
     
-    private void onConnectionFailure(ChannelFuture future) {
-        LOGGER.warn("✗ Falha na conexão com Bedrock: {}", 
+    private void onConnectionFailure(int slot, ChannelFuture future) {
+        LOGGER.warn("✗ Falha na conexão com Bedrock (slot {}): {}", slot,
             future.cause() != null ? future.cause().getMessage() : "Desconhecido");
-        scheduleReconnect();
+        scheduleReconnect(slot);
     }
     
-    public void send(ByteBuf packet) {
-        if (packet == null) {
-            LOGGER.warn("Tentativa de enviar pacote nulo");
+    /**
+     * Abre um canal dedicado para a sessão (modo canal por sessão)
+     */
+    private void openSessionChannel(PlayerSession session) {
+        if (bootstrap == null || !session.isActive()) {
+            return;
+        }
+        
+        String host = bridge.getConfig().BEDROCK_HOST.get();
+        int port = bridge.getConfig().BEDROCK_PORT.get();
+        
+        bootstrap.connect(host, port).addListener((ChannelFuture future) -> {
+            if (!future.isSuccess()) {
+                LOGGER.warn("✗ Falha ao abrir canal da sessão {}: {}", session.getPlayerName(),
+                    future.cause() != null ? future.cause().getMessage() : "Desconhecido");
+                // Enquanto isso a sessão usa o pool; nova tentativa como após uma queda
+                if (session.isActive() && !isShuttingDown()) {
+                    bridge.scheduleBlocking(
+                        () -> openSessionChannel(session), RECONNECT_DELAY_SECONDS, TimeUnit.SECONDS);
+                }
+                return;
+            }
+            
+            Channel channel = future.channel();
+            if (!session.isActive()) {
+                channel.close();
+                return;
+            }
+            channel.attr(SESSION).set(session);
+            session.setChannel(channel);
+            LOGGER.debug("Canal dedicado aberto para {} em {}", session.getPlayerName(), channel.eventLoop());
+        });
+    }
+    
+    /**
+     * Canal usado para o tráfego de uma sessão: o canal dedicado, se ativo,
+     * senão o slot do pool fixado pelo UUID do jogador
+     */
+    public Channel channelFor(PlayerSession session) {
+        if (session != null) {
+            Channel dedicated = session.getChannel();
+            if (dedicated != null && dedicated.isActive()) {
+                return dedicated;
+            }
+            
+            AtomicReferenceArray<Channel> current = pool;
+            Channel pooled = current.get(Math.floorMod(session.getPlayerUuid().hashCode(), current.length()));
+            if (pooled != null && pooled.isActive()) {
+                return pooled;
+            }
+        }
+        return getChannel();
+    }
+    
+    /**
+     * Chamado pelo handler quando um canal fecha: reabre apenas o slot ou a
+     * sessão afetada, sem derrubar os demais canais
+     */
+    void onChannelInactive(Channel channel) {
+        PlayerSession session = channel.attr(SESSION).get();
+        if (session != null) {
+            if (session.getChannel() == channel) {
+                session.setChannel(null);
+            }
+            if (session.isActive() && !isShuttingDown()) {
+                bridge.scheduleBlocking(
+                    () -> openSessionChannel(session), RECONNECT_DELAY_SECONDS, TimeUnit.SECONDS);
+            }
             return;
         }
         
-        if (!isConnected()) {
+        Integer slot = channel.attr(POOL_SLOT).get();
+        if (slot != null && pool.compareAndSet(slot, channel, null) && !isShuttingDown()) {
+            scheduleReconnect(slot);
+        }
+    }
+    
+    private boolean isShuttingDown() {
+        return workerGroup == null || workerGroup.isShuttingDown();
+    }
+    
+    /**
+     * Envia um pacote pelo canal principal sem acompanhar a conclusão.
+     * A escrita usa a void promise compartilhada e o flush é consolidado
+     * pelo pipeline (ver {@link BridgeChannelInitializer}). O pacote é
+     * consumido pelo {@link BedrockBatchEncoder}; uma falha no socket chega à
+     * promise do frame, que só a registra, sem fechar o canal.
+     */
+    public void send(ByteBuf packet) {
+        send(getChannel(), packet);
+    }
+    
+    /**
+     * Envia um pacote pelo canal da sessão
+     */
+    public void send(PlayerSession session, ByteBuf packet) {
+        send(channelFor(session), packet);
+    }
+    
+    /**
+     * Envia um pacote descartável: com o canal acima da marca alta de escrita
+     * ele é descartado em vez de crescer o buffer de saída
+     */
+    public void sendDroppable(PlayerSession session, ByteBuf packet) {
+        send(channelFor(session), packet, PacketPriority.DROPPABLE, 0L);
+    }
+    
+    /**
+     * Envia um pacote que substitui o anterior de mesma chave (ex: posição de
+     * uma entidade). Com o canal acima da marca alta só o mais recente de cada
+     * chave é mantido até o canal liberar.
+     */
+    public void sendCoalesced(PlayerSession session, long key, ByteBuf packet) {
+        send(channelFor(session), packet, PacketPriority.COALESCE, key);
+    }
+    
+    /**
+     * Envia o mesmo pacote já codificado a várias sessões sem copiá-lo: cada
+     * canal recebe um {@link ByteBuf#retainedDuplicate()}, com índices próprios
+     * sobre o conteúdo compartilhado. Sessões que dividem um canal do pool o
+     * recebem uma única vez. O broadcast assume a posse do pacote.
+     * Retorna em quantos canais o pacote foi escrito.
+     */
+    public int broadcast(Collection<PlayerSession> targets, ByteBuf packet) {
+        return broadcast(targets, packet, PacketPriority.CRITICAL, 0L);
+    }
+    
+    /**
+     * Broadcast com prioridade de backpressure, aplicada em cada canal
+     * (ver {@link #sendDroppable} e {@link #sendCoalesced})
+     */
+    public int broadcast(Collection<PlayerSession> targets, ByteBuf packet, PacketPriority priority, long key) {
+        Objects.requireNonNull(packet, "packet não pode ser nulo");
+        try {
+            Set<Channel> written = Collections.newSetFromMap(new IdentityHashMap<>());
+            for (PlayerSession session : targets) {
+                Channel channel = channelFor(session);
+                if (channel != null && channel.isActive() && written.add(channel)) {
+                    send(channel, packet.retainedDuplicate(), priority, key);
+                }
+            }
+            return written.size();
+        } finally {
             packet.release();
-            LOGGER.debug("Pacote descartado - Sem conexão (tamanho: {} bytes)", packet.readableBytes());
+        }
+    }
+    
+    /**
+     * Coloca uma coluna na fila de chunks uma vez por canal: num canal
+     * compartilhado só a primeira sessão ativa recebe o payload, como no
+     * {@link #broadcast}, já que as filas do canal saem juntas a cada tick.
+     * Assume a posse do payload. Retorna quantos canais receberam a coluna.
+     */
+    public int queueChunk(Collection<PlayerSession> targets, int chunkX, int chunkZ, ByteBuf payload) {
+        Objects.requireNonNull(payload, "payload não pode ser nulo");
+        try {
+            Set<Channel> queued = Collections.newSetFromMap(new IdentityHashMap<>());
+            for (PlayerSession session : targets) {
+                Channel channel = channelFor(session);
+                if (session.isActive() && channel != null && channel.isActive() && queued.add(channel)) {
+                    session.queueChunk(chunkX, chunkZ, payload.retainedDuplicate());
+                }
+            }
+            return queued.size();
+        } finally {
+            payload.release();
+        }
+    }
+    
+    /**
+     * Broadcast para as sessões cujo raio de visão cobre o chunk
+     */
+    public int broadcastToViewers(int chunkX, int chunkZ, ByteBuf packet) {
+        return broadcast(sessionGrid.viewers(chunkX, chunkZ), packet);
+    }
+    
+    private void send(Channel channel, ByteBuf packet, PacketPriority priority, long key) {
+        if (priority == PacketPriority.CRITICAL) {
+            send(channel, packet);
+            return;
+        }
+        if (!prepareSend(channel, packet)) {
+            return;
+        }
+        // A decisão de descartar ou guardar é tomada no event loop pelo OutboundBackpressureHandler
+        channel.writeAndFlush(new OutboundBackpressureHandler.DeferrablePacket(packet, priority, key),
+            channel.voidPromise());
+    }
+    
+    /**
+     * Envia um pacote e devolve o future da escrita, para quem precisa
+     * saber quando (ou se) o pacote saiu. Retorna null se o pacote foi descartado.
+     */
+    public ChannelFuture sendTracked(PlayerSession session, ByteBuf packet) {
+        Channel channel = channelFor(session);
+        if (!prepareSend(channel, packet)) {
+            return null;
+        }
+        try {
+            return channel.writeAndFlush(packet).addListener(sendListener);
+        } catch (Exception e) {
+            LOGGER.error("Erro ao enviar pacote", e);
+            return channel.newFailedFuture(e);
+        }
+    }
+    
+    private void send(Channel channel, ByteBuf packet) {
+        long start = metrics.sendLatency().startTimer();
+        if (!prepareSend(channel, packet)) {
             return;
         }
         
         try {
-            lastActivity.set(System.currentTimeMillis());
-            bridge.getTotalNetworkPackets().incrementAndGet();
-            
             if (bridge.isDebugMode()) {
-                LOGGER.debug("► Enviando pacote #{} ({} bytes)",
-                    bridge.getTotalNetworkPackets().get(),
-                    packet.readableBytes());
+                channel.writeAndFlush(packet).addListener(sendListener);
+            } else {
+                channel.writeAndFlush(packet, channel.voidPromise());
             }
-            
-            bedrockChannel.writeAndFlush(packet.retain())
-                .addListener((ChannelFutureListener) future -> {
-                    if (!future.isSuccess()) {
-                        LOGGER.warn("✗ Pacote #{} falhou: {}",
-                            bridge.getTotalNetworkPackets().get(),
-                            future.cause().getMessage());
-                    } else if (bridge.isDebugMode()) {
-                        LOGGER.debug("✓ Pacote #{} enviado", bridge.getTotalNetworkPackets().get());
-                    }
-                    packet.release();
-                });
         } catch (Exception e) {
-            packet.release();
             LOGGER.error("Erro ao enviar pacote", e);
+        } finally {
+            metrics.sendLatency().recordSince(start);
+        }
+    }
+    
+    private void onSendComplete(ChannelFuture future) {
+        if (!future.isSuccess()) {
+            LOGGER.warn("✗ Pacote falhou: {}", future.cause().getMessage());
+        } else if (bridge.isDebugMode()) {
+            LOGGER.debug("✓ Pacote enviado para {}", future.channel().remoteAddress());
+        }
+    }
+    
+    /**
+     * Valida o pacote e o canal; em caso de descarte o pacote é liberado
+     */
+    private boolean prepareSend(Channel channel, ByteBuf packet) {
+        if (packet == null) {
+            LOGGER.warn("Tentativa de enviar pacote nulo");
+            return false;
+        }
+        
+        if (channel == null || !channel.isActive()) {
+            LOGGER.debug("Pacote descartado - Sem conexão (tamanho: {} bytes)", packet.readableBytes());
+            packet.release();
+            return false;
+        }
+        
+        touchActivity();
+        metrics.sentPackets().increment();
+        
+        if (bridge.isDebugMode()) {
+            LOGGER.debug("► Enviando pacote #{} ({} bytes)", metrics.sentPackets().sum(), packet.readableBytes());
+        }
+        return true;
+    }
+    
+    /**
+     * Atualiza lastActivity só quando está mais de um segundo atrasado: a
+     * verificação de inatividade trabalha em dezenas de segundos e uma escrita
+     * por pacote disputaria a mesma linha de cache entre todos os event loops
+     */
+    private void touchActivity() {
+        long now = System.currentTimeMillis();
+        if (now - lastActivity.get() > ACTIVITY_RESOLUTION_MS) {
+            lastActivity.set(now);
         }
     }
     
     public boolean isConnected() {
-        return bedrockChannel != null && bedrockChannel.isActive();
+        Channel primary = getChannel();
+        return primary != null && primary.isActive();
     }
     
+    /**
+     * Reabre apenas os slots do pool sem conexão ativa, sem tocar nos canais
+     * saudáveis. Retorna quantos slots foram reabertos.
+     */
+    public int reconnectDeadSlots() {
+        int reopened = 0;
+        AtomicReferenceArray<Channel> current = pool;
+        for (int slot = 0; slot < current.length(); slot++) {
+            Channel channel = current.get(slot);
+            if (channel == null || !channel.isActive()) {
+                LOGGER.debug("Slot {} sem conexão - Tentando reconectar...", slot);
+                connectSlot(slot);
+                reopened++;
+            }
+        }
+        return reopened;
+    }
+    
+    /**
+     * Fecha e reabre todos os canais do pool
+     */
     public void reconnect() {
         if (workerGroup != null && !workerGroup.isShuttingDown()) {
             workerGroup.submit(() -> {
-                try {
-                    if (bedrockChannel != null && bedrockChannel.isActive()) {
-                        bedrockChannel.close().sync();
+                AtomicReferenceArray<Channel> current = pool;
+                for (int slot = 0; slot < current.length(); slot++) {
+                    Channel channel = current.getAndSet(slot, null);
+                    if (channel != null && channel.isActive()) {
+                        channel.close();
                     }
-                    connect();
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                    LOGGER.error("Reconexão foi interrompida", e);
                 }
+                connect();
             });
         }
     }
@@ -231,24 +678,174 @@ public class NetworkManager {
             try {
                 long inactiveMs = System.currentTimeMillis() - lastActivity.get();
                 
-                if (isConnected()) {
-                    if (inactiveMs > INACTIVITY_THRESHOLD_MS) {
-                        LOGGER.warn("Conexão inativa por {}ms - Reconectando...", inactiveMs);
-                        reconnect();
-                    }
-                } else {
-                    LOGGER.debug("Conexão perdida - Tentando reconectar...");
-                    reconnect();
+                // Inatividade não indica canal morto: os slots que caíram são
+                // reabertos um a um, os saudáveis ficam como estão
+                if (isConnected() && inactiveMs > INACTIVITY_THRESHOLD_MS) {
+                    LOGGER.debug("Conexão sem tráfego há {}ms", inactiveMs);
                 }
+                reconnectDeadSlots();
             } catch (Exception e) {
                 LOGGER.error("Erro no health monitor", e);
             }
         }, HEALTH_CHECK_INTERVAL_SECONDS, HEALTH_CHECK_INTERVAL_SECONDS, TimeUnit.SECONDS);
     }
     
-    private void scheduleReconnect() {
-        bridge.getBackgroundExecutor().schedule(
-            this::connect, 
+    /**
+     * Mede o atraso de cada event loop; acima do limite avisa no log e
+     * publica um {@link BridgeEvents.EventLoopLagEvent}
+     */
+    private void startEventLoopProbe() {
+        var config = bridge.getConfig();
+        int intervalMs = config.EVENT_LOOP_PROBE_MS.get();
+        if (intervalMs <= 0) {
+            return;
+        }
+        
+        eventLoopProbe = new EventLoopProbe(workerGroup, metrics, config.EVENT_LOOP_LAG_WARN_MS.get(),
+            (loop, lagMs, pendingTasks) -> {
+                LOGGER.warn("⚠ Event loop {} atrasado {}ms ({} tarefas pendentes)", loop, lagMs, pendingTasks);
+                if (BridgeEvents.isAvailable()) {
+                    BridgeEvents.post(new BridgeEvents.EventLoopLagEvent(loop, lagMs, pendingTasks));
+                }
+            });
+        eventLoopProbe.start(bridge.getBackgroundExecutor(), intervalMs);
+    }
+    
+    /**
+     * Agenda o envio por tick: os movimentos de entidades e as filas de chunks
+     * de todas as sessões são drenados no event loop do canal e o canal recebe
+     * um único flush
+     */
+    private void startChunkSender() {
+        bridge.getBackgroundExecutor().scheduleAtFixedRate(() -> {
+            if (sessions.isEmpty()) {
+                return;
+            }
+            
+            // Agrupar sessões por canal: um flush por canal a cada tick
+            Map<Channel, List<PlayerSession>> byChannel = new IdentityHashMap<>();
+            for (PlayerSession session : sessions.values()) {
+                Channel channel = channelFor(session);
+                if (session.isActive() && channel != null && channel.isActive()) {
+                    byChannel.computeIfAbsent(channel, c -> new ArrayList<>()).add(session);
+                }
+            }
+            byChannel.forEach((channel, group) ->
+                channel.eventLoop().execute(() -> flushSessionQueues(channel, group)));
+        }, CHUNK_TICK_MS, CHUNK_TICK_MS, TimeUnit.MILLISECONDS);
+    }
+    
+    private void flushSessionQueues(Channel channel, List<PlayerSession> group) {
+        try {
+            int maxChunks = bridge.getConfig().CHUNKS_PER_TICK.get();
+            long maxBytes = bridge.getConfig().CHUNK_KB_PER_TICK.get() * 1024L;
+            
+            // Sem espaço no buffer de saída chunks e movimentos esperam na sessão;
+            // o tracker guarda só a última posição de cada entidade
+            if (!channel.isWritable()) {
+                return;
+            }
+            
+            int written = writeEntityMoves(channel, group);
+            for (PlayerSession session : group) {
+                written += session.getChunkQueue().drain(channel, maxChunks, maxBytes);
+            }
+            
+            if (written > 0) {
+                channel.flush();
+                touchActivity();
+                metrics.sentPackets().add(written);
+            }
+        } catch (Exception e) {
+            LOGGER.error("Erro ao enviar filas das sessões", e);
+        }
+    }
+    
+    /**
+     * Deltas de movimento do tick de todas as sessões do canal em uma única
+     * escrita, antes dos chunks para não ficarem atrás de payloads grandes.
+     * Num canal compartilhado cada entidade sai uma vez, mesmo que várias
+     * sessões a vejam.
+     */
+    private int writeEntityMoves(Channel channel, List<PlayerSession> group) {
+        ByteBuf moves = null;
+        Set<Long> sentOnChannel = group.size() > 1 ? new HashSet<>() : null;
+        int count = 0;
+        for (PlayerSession session : group) {
+            if (session.getEntityTracker().hasPendingMoves()) {
+                if (moves == null) {
+                    moves = channel.alloc().directBuffer();
+                }
+                count += session.getEntityTracker().writeMoves(moves, sentOnChannel);
+            }
+        }
+        if (moves == null) {
+            return 0;
+        }
+        if (count == 0) {
+            moves.release();
+            return 0;
+        }
+        
+        channel.write(new PacketBatch(moves), channel.voidPromise());
+        entityMoves.add(count);
+        return count;
+    }
+    
+    public void registerSession(PlayerSession session) {
+        Objects.requireNonNull(session, "session não pode ser nula");
+        if (session.getViewDistance() <= 0) {
+            session.setViewDistance(bridge.getConfig().VIEW_DISTANCE.get());
+        }
+        sessions.put(session.getPlayerUuid(), session);
+        sessionGrid.update(session);
+        LOGGER.debug("Sessão registrada: {}", session.getPlayerName());
+        
+        if (perSessionChannels) {
+            openSessionChannel(session);
+        }
+    }
+    
+    public void unregisterSession(UUID playerUuid) {
+        PlayerSession session = sessions.remove(playerUuid);
+        if (session != null) {
+            sessionGrid.remove(session);
+            session.deactivate();
+            Channel dedicated = session.getChannel();
+            if (dedicated != null) {
+                dedicated.close();
+            }
+            LOGGER.debug("Sessão removida: {}", session.getPlayerName());
+        }
+    }
+    
+    /**
+     * Move a sessão para outro chunk, atualizando a fila de envio e o índice espacial
+     */
+    public void updateSessionPosition(PlayerSession session, int chunkX, int chunkZ) {
+        session.updatePosition(chunkX, chunkZ);
+        sessionGrid.updateIfPresent(session);
+    }
+    
+    public void updateViewDistance(PlayerSession session, int radius) {
+        if (radius <= 0 || radius == session.getViewDistance()) {
+            return;
+        }
+        session.setViewDistance(radius);
+        sessionGrid.updateIfPresent(session);
+    }
+    
+    public Collection<PlayerSession> getSessions() {
+        return sessions.values();
+    }
+    
+    public SessionGrid getSessionGrid() {
+        return sessionGrid;
+    }
+    
+    private void scheduleReconnect(int slot) {
+        bridge.scheduleBlocking(
+            () -> connectSlot(slot), 
             RECONNECT_DELAY_SECONDS, 
             TimeUnit.SECONDS
         );
@@ -258,14 +855,41 @@ public class NetworkManager {
         try {
             LOGGER.info("Encerrando Network Manager...");
             
-            if (bedrockChannel != null && bedrockChannel.isActive()) {
-                bedrockChannel.close().syncUninterruptibly();
+            for (PlayerSession session : sessions.values()) {
+                session.deactivate();
+                Channel dedicated = session.getChannel();
+                if (dedicated != null && dedicated.isActive()) {
+                    dedicated.close().syncUninterruptibly();
+                }
+            }
+            sessions.clear();
+            
+            AtomicReferenceArray<Channel> current = pool;
+            for (int slot = 0; slot < current.length(); slot++) {
+                Channel channel = current.getAndSet(slot, null);
+                if (channel != null && channel.isActive()) {
+                    channel.close().syncUninterruptibly();
+                }
+            }
+            
+            if (metricsServer != null) {
+                metricsServer.stop();
+            }
+            if (eventLoopProbe != null) {
+                eventLoopProbe.stop();
             }
             
             if (workerGroup != null && !workerGroup.isShuttingDown()) {
                 workerGroup.shutdownGracefully(0, 5, TimeUnit.SECONDS).sync();
             }
             
+            if (packetExecutor != null) {
+                packetExecutor.shutdown();
+                if (!packetExecutor.awaitTermination(5, TimeUnit.SECONDS)) {
+                    packetExecutor.shutdownNow();
+                }
+            }
+            
             LOGGER.info("Network Manager encerrado com sucesso");
         } catch (InterruptedException e) {
             LOGGER.error("Erro ao encerrar Network Manager", e);
@@ -273,8 +897,30 @@ public class NetworkManager {
         }
     }
     
+    /**
+     * Alocador em pool usado pelos canais Bedrock; buffers de saída devem vir daqui
+     */
+    public ByteBufAllocator getAllocator() {
+        return allocator;
+    }
+    
+    /**
+     * Canal principal (slot 0 do pool)
+     */
     public Channel getChannel() {
-        return bedrockChannel;
+        return pool.get(0);
+    }
+    
+    public PacketRegistry getPacketRegistry() {
+        return packetRegistry;
+    }
+    
+    public ExecutorService getPacketExecutor() {
+        return packetExecutor;
+    }
+    
+    public int getPoolSize() {
+        return pool.length();
     }
     
     public long getLastActivityTime() {
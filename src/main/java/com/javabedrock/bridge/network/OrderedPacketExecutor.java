@@ -0,0 +1,154 @@
+package com.javabedrock.bridge.network;
+
+import io.netty.buffer.ByteBuf;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Fila ordenada e limitada de pacotes de entrada de um canal
+ *
+ * Os pacotes são processados em ordem, um de cada vez, sobre um executor
+ * compartilhado. Ao atingir a marca alta a leitura do canal é pausada
+ * (autoRead = false) e só é retomada quando a fila cai até a marca baixa.
+ * Pausa e retomada sempre rodam no event loop do canal, que relê o tamanho
+ * da fila na hora de decidir; a thread de drenagem só agenda a verificação.
+ */
+final class OrderedPacketExecutor {
+    private static final Logger LOGGER = LogManager.getLogger();
+    private static final int MAX_PACKETS_PER_RUN = 64;
+    
+    @FunctionalInterface
+    interface PacketConsumer {
+        void accept(int packetId, ByteBuf payload) throws Exception;
+    }
+    
+    private final Executor delegate;
+    private final Executor eventLoop;
+    private final PacketConsumer consumer;
+    private final Runnable pauseReading;
+    private final Runnable resumeReading;
+    private final int highWaterMark;
+    private final int lowWaterMark;
+    private final int capacity;
+    
+    private final Queue<InboundPacket> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pending = new AtomicInteger();
+    private final AtomicBoolean running = new AtomicBoolean();
+    private volatile boolean paused; // escrito só pelo event loop
+    private volatile boolean closed;
+    
+    /**
+     * @param eventLoop event loop do canal, onde pauseReading e resumeReading executam
+     */
+    OrderedPacketExecutor(Executor delegate, Executor eventLoop, PacketConsumer consumer,
+                          Runnable pauseReading, Runnable resumeReading, int highWaterMark) {
+        this.delegate = delegate;
+        this.eventLoop = eventLoop;
+        this.consumer = consumer;
+        this.pauseReading = pauseReading;
+        this.resumeReading = resumeReading;
+        this.highWaterMark = highWaterMark;
+        this.lowWaterMark = highWaterMark / 2;
+        // Pacotes já lidos do socket ainda chegam após a pausa; acima disso descartamos
+        this.capacity = highWaterMark * 2;
+    }
+    
+    /**
+     * Enfileira um pacote; a fila assume a posse do buffer. Chamado no
+     * event loop do canal. Retorna false se o pacote foi descartado.
+     */
+    boolean enqueue(int packetId, ByteBuf payload) {
+        if (closed || pending.get() >= capacity) {
+            payload.release();
+            return false;
+        }
+        
+        queue.offer(new InboundPacket(packetId, payload));
+        if (pending.incrementAndGet() >= highWaterMark && !paused) {
+            updateReading();
+        }
+        scheduleDrain();
+        return true;
+    }
+    
+    /**
+     * Pausa ou retoma a leitura conforme o tamanho atual da fila; só roda no
+     * event loop, então a última decisão aplicada é sempre a mais recente
+     */
+    private void updateReading() {
+        if (!paused && pending.get() >= highWaterMark) {
+            paused = true;
+            pauseReading.run();
+        }
+        // Relido depois de marcar a pausa: uma drenagem que esvaziou a fila
+        // antes de ver paused = true não agendou a retomada
+        if (paused && pending.get() <= lowWaterMark) {
+            paused = false;
+            resumeReading.run();
+        }
+    }
+    
+    private void scheduleDrain() {
+        if (running.compareAndSet(false, true)) {
+            try {
+                delegate.execute(this::drain);
+            } catch (Exception e) {
+                running.set(false);
+                LOGGER.error("Executor de pacotes rejeitou a tarefa", e);
+            }
+        }
+    }
+    
+    private void drain() {
+        try {
+            InboundPacket packet;
+            int processed = 0;
+            // Limite por execução para não monopolizar uma thread do executor
+            while (processed++ < MAX_PACKETS_PER_RUN && (packet = queue.poll()) != null) {
+                try {
+                    if (!closed) {
+                        consumer.accept(packet.id(), packet.payload());
+                    }
+                } catch (Exception e) {
+                    LOGGER.error("Erro ao processar pacote 0x{}", Integer.toHexString(packet.id()), e);
+                } finally {
+                    packet.payload().release();
+                }
+                
+                pending.decrementAndGet();
+            }
+            if (paused && pending.get() <= lowWaterMark) {
+                eventLoop.execute(this::updateReading);
+            }
+        } finally {
+            running.set(false);
+            if (!queue.isEmpty()) {
+                scheduleDrain();
+            }
+        }
+    }
+    
+    /**
+     * Descarta os pacotes pendentes; chamado quando o canal fecha
+     */
+    void close() {
+        closed = true;
+        InboundPacket packet;
+        while ((packet = queue.poll()) != null) {
+            packet.payload().release();
+            pending.decrementAndGet();
+        }
+    }
+    
+    int size() {
+        return pending.get();
+    }
+    
+    private record InboundPacket(int id, ByteBuf payload) {}
+}
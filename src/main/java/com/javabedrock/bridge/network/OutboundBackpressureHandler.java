@@ -0,0 +1,126 @@
+package com.javabedrock.bridge.network;
+
+import com.javabedrock.bridge.metrics.Counter;
+import com.javabedrock.bridge.metrics.MetricsRegistry;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.DefaultByteBufHolder;
+import io.netty.channel.ChannelDuplexHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPromise;
+import io.netty.util.ReferenceCountUtil;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Backpressure de saída baseado na gravabilidade do canal
+ *
+ * Pacotes {@link PacketPriority#CRITICAL} chegam como {@link ByteBuf} e passam
+ * direto. Os demais chegam embrulhados em {@link DeferrablePacket} e, com o
+ * buffer de saída acima da marca alta, são descartados ou guardados por chave
+ * (o mais novo substitui o anterior). Quando o canal volta a ser gravável os
+ * pacotes guardados são escritos antes de qualquer outro, críticos inclusive,
+ * para que nada ultrapasse um pacote guardado. Tudo roda no event loop do
+ * canal, sem sincronização.
+ */
+final class OutboundBackpressureHandler extends ChannelDuplexHandler {
+    /** Limite de chaves guardadas por canal; acima disso novos pacotes são descartados */
+    private static final int MAX_COALESCED = 4096;
+    
+    /**
+     * Pacote não crítico; {@code key} identifica o que o pacote atualiza
+     * (ex: o ID da entidade) quando a prioridade é {@link PacketPriority#COALESCE}.
+     * Como {@link PacketBatch}, é um holder: se a escrita falhar antes de chegar
+     * ao handler o Netty libera o payload.
+     */
+    static final class DeferrablePacket extends DefaultByteBufHolder {
+        private final PacketPriority priority;
+        private final long key;
+        
+        DeferrablePacket(ByteBuf payload, PacketPriority priority, long key) {
+            super(payload);
+            this.priority = priority;
+            this.key = key;
+        }
+        
+        PacketPriority priority() { return priority; }
+        long key() { return key; }
+    }
+    
+    private final Counter dropped;
+    private final Counter coalesced;
+    private final Map<Long, ByteBuf> pending = new LinkedHashMap<>();
+    
+    OutboundBackpressureHandler(MetricsRegistry metrics) {
+        this.dropped = metrics.counter("j2b_backpressure_dropped_total",
+            "Pacotes descartados com o canal acima da marca alta");
+        this.coalesced = metrics.counter("j2b_backpressure_coalesced_total",
+            "Pacotes substituídos por uma versão mais nova com o canal acima da marca alta");
+    }
+    
+    @Override
+    public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) {
+        if (!pending.isEmpty() && ctx.channel().isWritable()) {
+            writePending(ctx);
+        }
+        if (!(msg instanceof DeferrablePacket packet)) {
+            ctx.write(msg, promise);
+            return;
+        }
+        
+        boolean writable = ctx.channel().isWritable();
+        
+        if (packet.priority() == PacketPriority.COALESCE) {
+            ByteBuf previous = pending.remove(packet.key());
+            if (previous != null) {
+                previous.release();
+                coalesced.increment();
+            }
+            if (!writable) {
+                if (pending.size() < MAX_COALESCED) {
+                    pending.put(packet.key(), packet.content());
+                } else {
+                    packet.release();
+                    dropped.increment();
+                }
+                promise.trySuccess();
+                return;
+            }
+        } else if (!writable && packet.priority() == PacketPriority.DROPPABLE) {
+            packet.release();
+            dropped.increment();
+            promise.trySuccess();
+            return;
+        }
+        ctx.write(packet.content(), promise);
+    }
+    
+    @Override
+    public void channelWritabilityChanged(ChannelHandlerContext ctx) {
+        if (ctx.channel().isWritable() && !pending.isEmpty()) {
+            writePending(ctx);
+            ctx.flush();
+        }
+        ctx.fireChannelWritabilityChanged();
+    }
+    
+    /**
+     * Escreve os pacotes guardados em ordem de chegada, parando se o canal
+     * voltar a encher
+     */
+    private void writePending(ChannelHandlerContext ctx) {
+        Iterator<ByteBuf> it = pending.values().iterator();
+        while (it.hasNext() && ctx.channel().isWritable()) {
+            ByteBuf payload = it.next();
+            it.remove();
+            ctx.write(payload, ctx.voidPromise());
+        }
+    }
+    
+    @Override
+    public void handlerRemoved(ChannelHandlerContext ctx) {
+        pending.values().forEach(ReferenceCountUtil::safeRelease);
+        pending.clear();
+    }
+}
@@ -0,0 +1,15 @@
+package com.javabedrock.bridge.network;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.DefaultByteBufHolder;
+
+/**
+ * Sequência de pacotes já com prefixo de tamanho VarInt, no formato interno
+ * do batch Bedrock. O {@link BedrockBatchEncoder} copia o conteúdo direto para
+ * o frame em montagem, sem reenquadrar cada pacote.
+ */
+final class PacketBatch extends DefaultByteBufHolder {
+    PacketBatch(ByteBuf content) {
+        super(content);
+    }
+}
@@ -0,0 +1,16 @@
+package com.javabedrock.bridge.network;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.Channel;
+
+/**
+ * Handler de um tipo de pacote Bedrock
+ *
+ * Recebe o payload já posicionado após o cabeçalho e deve ler os campos
+ * direto do buffer. O buffer pertence ao chamador: é liberado após o
+ * retorno, então quem precisar guardá-lo deve chamar {@code retain()}.
+ */
+@FunctionalInterface
+public interface PacketHandler {
+    void handle(Channel channel, ByteBuf payload) throws Exception;
+}
@@ -0,0 +1,14 @@
+package com.javabedrock.bridge.network;
+
+/**
+ * Tratamento de um pacote de saída quando o canal não está gravável
+ * (buffer de saída acima da marca alta, ver {@code write_buffer_high_kb})
+ */
+public enum PacketPriority {
+    /** Sempre escrito, em ordem (inventário, diálogos, desconexão...) */
+    CRITICAL,
+    /** Só a versão mais recente por chave é mantida até o canal liberar (movimento de entidades distantes) */
+    COALESCE,
+    /** Descartado (partículas, sons) */
+    DROPPABLE
+}
@@ -0,0 +1,65 @@
+package com.javabedrock.bridge.network;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.Channel;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Tabela de despacho de pacotes Bedrock indexada pelo ID
+ *
+ * Os IDs ocupam os 10 bits baixos do cabeçalho, então um array de 1024
+ * posições cobre todos: a busca é um acesso indexado, sem hashing nem boxing.
+ */
+public final class PacketRegistry {
+    public static final int MAX_PACKET_ID = 0x3FF;
+    
+    private final AtomicReferenceArray<PacketHandler> handlers = new AtomicReferenceArray<>(MAX_PACKET_ID + 1);
+    
+    /**
+     * Registra o handler de um ID, substituindo o anterior se existir
+     */
+    public void register(int packetId, PacketHandler handler) {
+        checkId(packetId);
+        handlers.set(packetId, Objects.requireNonNull(handler, "handler não pode ser nulo"));
+    }
+    
+    public void unregister(int packetId) {
+        checkId(packetId);
+        handlers.set(packetId, null);
+    }
+    
+    public PacketHandler get(int packetId) {
+        return handlers.get(packetId & MAX_PACKET_ID);
+    }
+    
+    /**
+     * Despacha o pacote para o handler do ID.
+     * Retorna false se nenhum handler está registrado.
+     */
+    public boolean dispatch(Channel channel, int packetId, ByteBuf payload) throws Exception {
+        PacketHandler handler = handlers.get(packetId & MAX_PACKET_ID);
+        if (handler == null) {
+            return false;
+        }
+        handler.handle(channel, payload);
+        return true;
+    }
+    
+    public int getRegisteredCount() {
+        int count = 0;
+        for (int i = 0; i <= MAX_PACKET_ID; i++) {
+            if (handlers.get(i) != null) {
+                count++;
+            }
+        }
+        return count;
+    }
+    
+    private static void checkId(int packetId) {
+        if (packetId < 0 || packetId > MAX_PACKET_ID) {
+            throw new IllegalArgumentException("ID de pacote inválido: " + packetId);
+        }
+    }
+}
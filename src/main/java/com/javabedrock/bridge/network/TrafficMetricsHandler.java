@@ -0,0 +1,40 @@
+package com.javabedrock.bridge.network;
+
+import com.javabedrock.bridge.metrics.Counter;
+import com.javabedrock.bridge.metrics.MetricsRegistry;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelDuplexHandler;
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPromise;
+
+/**
+ * Conta os bytes que passam pelo socket; fica na cabeça do pipeline,
+ * antes de qualquer decodificação e depois de toda codificação
+ */
+@ChannelHandler.Sharable
+final class TrafficMetricsHandler extends ChannelDuplexHandler {
+    private final Counter receivedBytes;
+    private final Counter sentBytes;
+    
+    TrafficMetricsHandler(MetricsRegistry metrics) {
+        this.receivedBytes = metrics.receivedBytes();
+        this.sentBytes = metrics.sentBytes();
+    }
+    
+    @Override
+    public void channelRead(ChannelHandlerContext ctx, Object msg) {
+        if (msg instanceof ByteBuf buf) {
+            receivedBytes.add(buf.readableBytes());
+        }
+        ctx.fireChannelRead(msg);
+    }
+    
+    @Override
+    public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) {
+        if (msg instanceof ByteBuf buf) {
+            sentBytes.add(buf.readableBytes());
+        }
+        ctx.write(msg, promise);
+    }
+}
@@ -0,0 +1,6 @@
+package com.javabedrock.bridge.translation;
+
+/**
+ * Destino Bedrock de um identificador Java (item ou entidade)
+ */
+public record BedrockMapping(String identifier, int runtimeId) {}
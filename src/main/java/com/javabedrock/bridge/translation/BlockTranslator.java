@@ -1,32 +1,125 @@
 package com.javabedrock.bridge.translation;
 
-import com.google.common.cache.Cache;
 import com.javabedrock.bridge.core.BridgeCore;
+import com.javabedrock.bridge.network.BedrockPacketIds;
+import com.javabedrock.bridge.util.BridgeCache;
+import com.javabedrock.bridge.util.ByteBufUtils;
+import io.netty.buffer.ByteBuf;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.BlockState;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraftforge.registries.ForgeRegistries;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.util.Arrays;
+
 /**
  * Tradutor de blocos Java para Bedrock
+ *
+ * O caminho quente usa uma tabela densa e imutável indexada pelo runtime ID
+ * Java do estado, copiada em bloco do {@link MappingBundle} em
+ * {@link #loadMappings(MappingBundle)}.
  */
 public class BlockTranslator {
     private static final Logger LOGGER = LogManager.getLogger();
     
+    /** Runtime ID Bedrock usado para estados sem mapeamento (ar) */
+    public static final int FALLBACK_RUNTIME_ID = 0;
+    /** Flags do UpdateBlock: atualizar vizinhos e enviar pela rede */
+    private static final int UPDATE_FLAGS = 0x03;
+    
     private final BridgeCore bridge;
-    private final Cache<BlockState, Object> cache;
+    private final BridgeCache<String, Object> cache;
     
-    public BlockTranslator(BridgeCore bridge, Cache<BlockState, Object> cache) {
+    private volatile int[] javaToBedrock = new int[0];
+    private volatile int airRuntimeId = FALLBACK_RUNTIME_ID;
+    
+    public BlockTranslator(BridgeCore bridge, BridgeCache<String, Object> cache) {
         this.bridge = bridge;
         this.cache = cache;
     }
     
-    public void loadMappings() {
-        // TODO: Implementar carregamento de mapeamentos
-        LOGGER.debug("Mapeamentos de blocos carregados");
+    public void loadMappings(MappingBundle bundle) {
+        int registrySize = Block.BLOCK_STATE_REGISTRY.size();
+        int[] table = new int[registrySize];
+        Arrays.fill(table, FALLBACK_RUNTIME_ID);
+        
+        int bundled = bundle.copyBlockRuntimeIds(table);
+        if (bundled != registrySize) {
+            LOGGER.warn("⚠ Mapeamento de blocos tem {} estados, registro tem {}", bundled, registrySize);
+        }
+        int mapped = Math.min(bundled, registrySize);
+        
+        this.javaToBedrock = table;
+        this.airRuntimeId = translate(Blocks.AIR.defaultBlockState());
+        LOGGER.debug("Mapeamentos de blocos carregados: {}/{} estados", mapped, registrySize);
+    }
+    
+    /**
+     * Instala uma tabela já montada, sem passar pelo registro de blocos
+     * do Minecraft (usado pelos benchmarks)
+     */
+    void installMappings(int[] table, int airRuntimeId) {
+        this.javaToBedrock = table;
+        this.airRuntimeId = airRuntimeId;
+    }
+    
+    /**
+     * Traduz um estado de bloco para o runtime ID Bedrock (caminho quente)
+     */
+    public int translate(BlockState state) {
+        return translate(Block.getId(state));
+    }
+    
+    /**
+     * Traduz um runtime ID Java para o runtime ID Bedrock
+     */
+    public int translate(int javaRuntimeId) {
+        int[] table = javaToBedrock;
+        return javaRuntimeId >= 0 && javaRuntimeId < table.length
+            ? table[javaRuntimeId]
+            : FALLBACK_RUNTIME_ID;
+    }
+    
+    /**
+     * Traduz um bloco pelo identificador (ex: {@code minecraft:stone}) usando
+     * o estado padrão. Usado fora do caminho quente, por isso passa pelo cache.
+     */
+    public Object translate(String blockId) {
+        try {
+            return cache.get(blockId, id -> {
+                Block block = ForgeRegistries.BLOCKS.getValue(new ResourceLocation(id));
+                return block != null ? translate(block.defaultBlockState()) : FALLBACK_RUNTIME_ID;
+            });
+        } catch (RuntimeException e) {
+            LOGGER.debug("Falha ao traduzir bloco {}", blockId, e);
+            return FALLBACK_RUNTIME_ID;
+        }
+    }
+    
+    /**
+     * Serializa um pacote UpdateBlock (ID, posição, runtime ID, flags, camada 0)
+     */
+    static void writeUpdateBlock(ByteBuf out, int x, int y, int z, int runtimeId) {
+        ByteBufUtils.writeVarInt(out, BedrockPacketIds.UPDATE_BLOCK);
+        ByteBufUtils.writeZigZagVarInt(out, x);
+        ByteBufUtils.writeVarInt(out, y);
+        ByteBufUtils.writeZigZagVarInt(out, z);
+        ByteBufUtils.writeVarInt(out, runtimeId);
+        ByteBufUtils.writeVarInt(out, UPDATE_FLAGS);
+        ByteBufUtils.writeVarInt(out, 0);
+    }
+    
+    /**
+     * Runtime ID Bedrock do ar, usado para seções vazias
+     */
+    public int getAirRuntimeId() {
+        return airRuntimeId;
     }
     
-    public Object translate(BlockState state) {
-        // TODO: Implementar tradução de blocos
-        return null;
+    public int getMappedStateCount() {
+        return javaToBedrock.length;
     }
 }
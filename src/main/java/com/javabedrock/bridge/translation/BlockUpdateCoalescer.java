@@ -0,0 +1,206 @@
+package com.javabedrock.bridge.translation;
+
+import com.javabedrock.bridge.data.PlayerSession;
+import com.javabedrock.bridge.metrics.Counter;
+import com.javabedrock.bridge.metrics.MetricsRegistry;
+import com.javabedrock.bridge.network.BedrockPacketIds;
+import com.javabedrock.bridge.network.NetworkManager;
+import com.javabedrock.bridge.util.ByteBufUtils;
+import io.netty.buffer.ByteBuf;
+import net.minecraft.world.level.chunk.LevelChunk;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Janela de agrupamento de mudanças de bloco por seção de chunk
+ *
+ * As mudanças recebidas durante a janela ficam num mapa por seção 16x16x16,
+ * onde um novo estado na mesma posição substitui o anterior (relógios de
+ * redstone e pistões alternam as mesmas posições várias vezes por tick). No
+ * fim da janela cada seção vira um único UpdateBlock, um UpdateSubChunkBlocks
+ * com todas as posições ou, acima do limite de mudanças, o reenvio da coluna
+ * para as sessões que a enxergam. Os estados só são traduzidos no envio.
+ */
+final class BlockUpdateCoalescer {
+    private static final Logger LOGGER = LogManager.getLogger();
+    /** Flags do UpdateSubChunkBlocks: atualizar vizinhos e enviar pela rede */
+    private static final int UPDATE_FLAGS = 0x03;
+    
+    private final BlockTranslator blockTranslator;
+    private final NetworkManager network;
+    private final TranslationEngine engine;
+    private final int resendThreshold;
+    private final Counter received;
+    private final Counter superseded;
+    private final Counter resends;
+    
+    private Map<Long, PendingSection> pending = new HashMap<>();
+    private ScheduledFuture<?> task;
+    
+    BlockUpdateCoalescer(TranslationEngine engine, NetworkManager network, MetricsRegistry metrics, int resendThreshold) {
+        this.engine = engine;
+        this.blockTranslator = engine.getBlockTranslator();
+        this.network = network;
+        this.resendThreshold = resendThreshold;
+        this.received = metrics.counter("j2b_block_updates_total", "Mudanças de bloco recebidas para tradução");
+        this.superseded = metrics.counter("j2b_block_updates_superseded_total",
+            "Mudanças de bloco substituídas por outra na mesma posição dentro da janela");
+        this.resends = metrics.counter("j2b_block_column_resends_total",
+            "Colunas reenviadas por excesso de mudanças numa seção");
+    }
+    
+    void start(ScheduledExecutorService scheduler, long windowMillis) {
+        task = scheduler.scheduleAtFixedRate(this::flush, windowMillis, windowMillis, TimeUnit.MILLISECONDS);
+        LOGGER.debug("Agrupamento de mudanças de bloco ativo: janela de {}ms", windowMillis);
+    }
+    
+    void stop() {
+        if (task != null) {
+            task.cancel(false);
+            task = null;
+        }
+        synchronized (this) {
+            pending = new HashMap<>();
+        }
+    }
+    
+    /**
+     * Registra uma mudança; o chunk, se informado, permite o reenvio da coluna
+     */
+    synchronized void add(LevelChunk chunk, int x, int y, int z, int javaRuntimeId) {
+        received.increment();
+        PendingSection section = pending.computeIfAbsent(sectionKey(x >> 4, y >> 4, z >> 4),
+            k -> new PendingSection(x >> 4, y >> 4, z >> 4));
+        if (chunk != null) {
+            section.chunk = chunk;
+        }
+        if (section.states.put(localIndex(x, y, z), javaRuntimeId) != null) {
+            superseded.increment();
+        }
+    }
+    
+    private void flush() {
+        Map<Long, PendingSection> sections;
+        synchronized (this) {
+            if (pending.isEmpty()) {
+                return;
+            }
+            sections = pending;
+            pending = new HashMap<>();
+        }
+        
+        for (PendingSection section : sections.values()) {
+            try {
+                emit(section);
+            } catch (Exception e) {
+                LOGGER.warn("Erro ao enviar mudanças de bloco da seção {},{},{}",
+                    section.sectionX, section.sectionY, section.sectionZ, e);
+            }
+        }
+    }
+    
+    private void emit(PendingSection section) {
+        List<PlayerSession> viewers = network.getSessionGrid().viewers(section.sectionX, section.sectionZ);
+        if (viewers.isEmpty()) {
+            return;
+        }
+        
+        int count = section.states.size();
+        if (count >= resendThreshold && section.chunk != null) {
+            resends.increment();
+            resendColumn(section.chunk, viewers);
+            return;
+        }
+        
+        ByteBuf packet = network.getAllocator().directBuffer(count == 1 ? 16 : 16 + count * 12);
+        if (count == 1) {
+            var entry = section.states.entrySet().iterator().next();
+            int index = entry.getKey();
+            BlockTranslator.writeUpdateBlock(packet, section.blockX(index), section.blockY(index),
+                section.blockZ(index), blockTranslator.translate(entry.getValue()));
+        } else {
+            writeSubChunkBlocks(packet, section);
+        }
+        network.broadcast(viewers, packet);
+    }
+    
+    /**
+     * UpdateSubChunkBlocks: posição do sub-chunk, camada padrão com todas as
+     * mudanças e camada extra vazia
+     */
+    private void writeSubChunkBlocks(ByteBuf out, PendingSection section) {
+        ByteBufUtils.writeVarInt(out, BedrockPacketIds.UPDATE_SUB_CHUNK_BLOCKS);
+        ByteBufUtils.writeZigZagVarInt(out, section.sectionX);
+        ByteBufUtils.writeVarInt(out, section.sectionY);
+        ByteBufUtils.writeZigZagVarInt(out, section.sectionZ);
+        
+        ByteBufUtils.writeVarInt(out, section.states.size());
+        for (var entry : section.states.entrySet()) {
+            int index = entry.getKey();
+            ByteBufUtils.writeZigZagVarInt(out, section.blockX(index));
+            ByteBufUtils.writeVarInt(out, section.blockY(index));
+            ByteBufUtils.writeZigZagVarInt(out, section.blockZ(index));
+            ByteBufUtils.writeVarInt(out, blockTranslator.translate(entry.getValue()));
+            ByteBufUtils.writeVarInt(out, UPDATE_FLAGS);
+            ByteBufUtils.writeVarLong(out, 0L); // entidade da mensagem
+            ByteBufUtils.writeVarInt(out, 0);   // tipo da mensagem
+        }
+        ByteBufUtils.writeVarInt(out, 0);
+    }
+    
+    /**
+     * Retraduz a coluna e a coloca na fila de chunks uma vez por canal dos
+     * viewers; todos compartilham o mesmo buffer
+     */
+    private void resendColumn(LevelChunk chunk, List<PlayerSession> viewers) {
+        int chunkX = chunk.getPos().x;
+        int chunkZ = chunk.getPos().z;
+        engine.translateChunk(chunk)
+            .thenAccept(payload -> network.queueChunk(viewers, chunkX, chunkZ, payload));
+    }
+    
+    synchronized int getPendingSections() {
+        return pending.size();
+    }
+    
+    /**
+     * Chave de 64 bits da seção: x e z com 22 bits, y com 20
+     */
+    private static long sectionKey(int sectionX, int sectionY, int sectionZ) {
+        return ((sectionX & 0x3FFFFFL) << 42) | ((sectionZ & 0x3FFFFFL) << 20) | (sectionY & 0xFFFFFL);
+    }
+    
+    /**
+     * Índice da posição dentro da seção, na ordem Bedrock (x << 8) | (z << 4) | y
+     */
+    private static int localIndex(int x, int y, int z) {
+        return ((x & 15) << 8) | ((z & 15) << 4) | (y & 15);
+    }
+    
+    private static final class PendingSection {
+        final int sectionX;
+        final int sectionY;
+        final int sectionZ;
+        // Índice local → runtime ID Java; mantém a ordem da primeira mudança
+        final Map<Integer, Integer> states = new LinkedHashMap<>();
+        LevelChunk chunk;
+        
+        PendingSection(int sectionX, int sectionY, int sectionZ) {
+            this.sectionX = sectionX;
+            this.sectionY = sectionY;
+            this.sectionZ = sectionZ;
+        }
+        
+        int blockX(int index) { return (sectionX << 4) | (index >> 8); }
+        int blockZ(int index) { return (sectionZ << 4) | ((index >> 4) & 15); }
+        int blockY(int index) { return (sectionY << 4) | (index & 15); }
+    }
+}
@@ -0,0 +1,189 @@
+package com.javabedrock.bridge.translation;
+
+import com.javabedrock.bridge.util.ByteBufUtils;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import net.minecraft.world.level.block.BlockState;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+import net.minecraft.world.level.chunk.PalettedContainer;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Serializador de seções de chunk para o armazenamento paletizado Bedrock
+ *
+ * Converte o {@link PalettedContainer} Java para palavras de 32 bits
+ * empacotadas no buffer de saída, sem alocações por seção: a paleta e os
+ * índices de cada bloco ficam num rascunho reutilizado por thread. Cada
+ * bloco é lido e traduzido uma única vez, então uma mudança concorrente no
+ * container não faz a paleta crescer além da largura já escolhida.
+ */
+public final class ChunkSectionSerializer {
+    public static final int SECTION_SIZE = 16 * 16 * 16;
+    private static final int SUB_CHUNK_VERSION = 9;
+    private static final int[] BITS_PER_BLOCK = {1, 2, 3, 4, 5, 6, 8, 16};
+    
+    private static final ThreadLocal<ScratchPalette> SCRATCH = ThreadLocal.withInitial(ScratchPalette::new);
+    
+    private final BlockTranslator blockTranslator;
+    
+    public ChunkSectionSerializer(BlockTranslator blockTranslator) {
+        this.blockTranslator = Objects.requireNonNull(blockTranslator, "blockTranslator não pode ser nulo");
+    }
+    
+    /**
+     * Serializa uma seção como sub-chunk Bedrock (v9) num buffer do alocador
+     * informado, pré-dimensionado para não precisar crescer durante a escrita
+     */
+    public ByteBuf serialize(LevelChunkSection section, int sectionY, ByteBufAllocator alloc) {
+        ScratchPalette palette = SCRATCH.get();
+        palette.reset();
+        
+        PalettedContainer<BlockState> states = section != null && !section.hasOnlyAir()
+            ? section.getStates()
+            : null;
+        
+        // Passo 1: traduzir cada bloco uma vez, montando a paleta Bedrock e os
+        // índices na ordem Bedrock: (x << 8) | (z << 4) | y
+        short[] indices = palette.indices();
+        if (states == null) {
+            palette.indexOf(blockTranslator.getAirRuntimeId());
+        } else {
+            int i = 0;
+            for (int x = 0; x < 16; x++) {
+                for (int z = 0; z < 16; z++) {
+                    for (int y = 0; y < 16; y++) {
+                        indices[i++] = (short) palette.indexOf(blockTranslator.translate(states.get(x, y, z)));
+                    }
+                }
+            }
+        }
+        
+        int bits = bitsFor(palette.size());
+        ByteBuf buf = alloc.directBuffer(serializedSize(bits, palette.size()));
+        try {
+            buf.writeByte(SUB_CHUNK_VERSION);
+            buf.writeByte(1); // uma camada de armazenamento
+            buf.writeByte(sectionY);
+            buf.writeByte((bits << 1) | 1); // bit 0: paleta de runtime IDs
+            
+            // Passo 2: empacotar os índices já calculados. Com um único valor
+            // (bits = 0) não há palavras nem contagem, só a entrada da paleta
+            if (bits > 0) {
+                writeWords(buf, indices, bits);
+                ByteBufUtils.writeZigZagVarInt(buf, palette.size());
+            }
+            for (int i = 0; i < palette.size(); i++) {
+                ByteBufUtils.writeZigZagVarInt(buf, palette.entry(i));
+            }
+            return buf;
+        } catch (RuntimeException e) {
+            buf.release();
+            throw e;
+        }
+    }
+    
+    /**
+     * Empacota os índices (já na ordem Bedrock) em palavras de 32 bits
+     */
+    private static void writeWords(ByteBuf buf, short[] indices, int bits) {
+        int blocksPerWord = 32 / bits;
+        int word = 0;
+        int filled = 0;
+        
+        for (int i = 0; i < SECTION_SIZE; i++) {
+            word |= indices[i] << (filled * bits);
+            if (++filled == blocksPerWord) {
+                buf.writeIntLE(word);
+                word = 0;
+                filled = 0;
+            }
+        }
+        
+        if (filled > 0) {
+            buf.writeIntLE(word);
+        }
+    }
+    
+    private static int serializedSize(int bits, int paletteSize) {
+        int words = 0;
+        if (bits > 0) {
+            int blocksPerWord = 32 / bits;
+            words = (SECTION_SIZE + blocksPerWord - 1) / blocksPerWord;
+        }
+        // cabeçalho (4) + palavras + tamanho e entradas da paleta (VarInt de até 5 bytes)
+        return 4 + words * 4 + 5 * (paletteSize + 1);
+    }
+    
+    /**
+     * Menor tamanho de índice suportado pela Bedrock para a paleta
+     */
+    static int bitsFor(int paletteSize) {
+        if (paletteSize <= 1) {
+            return 0;
+        }
+        int needed = 32 - Integer.numberOfLeadingZeros(paletteSize - 1);
+        for (int bits : BITS_PER_BLOCK) {
+            if (bits >= needed) {
+                return bits;
+            }
+        }
+        throw new IllegalStateException("Paleta grande demais: " + paletteSize);
+    }
+    
+    /**
+     * Tabela de endereçamento aberto runtime ID → índice da paleta,
+     * reaproveitada entre seções para não gerar lixo
+     */
+    private static final class ScratchPalette {
+        private static final int CAPACITY = SECTION_SIZE * 2;
+        private static final int MASK = CAPACITY - 1;
+        private static final int EMPTY = -1;
+        
+        private final int[] keys = new int[CAPACITY];
+        private final int[] values = new int[CAPACITY];
+        private final int[] entries = new int[SECTION_SIZE];
+        private final int[] usedSlots = new int[SECTION_SIZE];
+        private final short[] indices = new short[SECTION_SIZE];
+        private int size;
+        
+        ScratchPalette() {
+            Arrays.fill(keys, EMPTY);
+        }
+        
+        void reset() {
+            for (int i = 0; i < size; i++) {
+                keys[usedSlots[i]] = EMPTY;
+            }
+            size = 0;
+        }
+        
+        int indexOf(int runtimeId) {
+            int slot = mix(runtimeId) & MASK;
+            while (true) {
+                int key = keys[slot];
+                if (key == runtimeId) {
+                    return values[slot];
+                }
+                if (key == EMPTY) {
+                    keys[slot] = runtimeId;
+                    values[slot] = size;
+                    usedSlots[size] = slot;
+                    entries[size] = runtimeId;
+                    return size++;
+                }
+                slot = (slot + 1) & MASK;
+            }
+        }
+        
+        int size() { return size; }
+        int entry(int index) { return entries[index]; }
+        short[] indices() { return indices; }
+        
+        private static int mix(int value) {
+            int h = value * 0x9E3779B9;
+            return h ^ (h >>> 16);
+        }
+    }
+}
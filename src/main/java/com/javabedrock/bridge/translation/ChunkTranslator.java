@@ -0,0 +1,229 @@
+package com.javabedrock.bridge.translation;
+
+import com.javabedrock.bridge.network.BedrockPacketIds;
+import com.javabedrock.bridge.util.ByteBufUtils;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.CompositeByteBuf;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tradutor de colunas de chunk Java para sub-chunks Bedrock
+ *
+ * Cada seção 16x16x16 é traduzida em paralelo em um {@link ForkJoinPool}
+ * dedicado, separado do executor de background do {@code BridgeCore}. A
+ * coluna sai como um pacote LevelChunk completo: cabeçalho, sub-chunks,
+ * biomas e borda, com o payload prefixado pelo tamanho.
+ */
+public class ChunkTranslator {
+    private static final Logger LOGGER = LogManager.getLogger();
+    /** Dimensão do LevelChunk; só o overworld é traduzido */
+    private static final int DIMENSION_OVERWORLD = 0;
+    /** Bioma de todos os sub-chunks (planícies); biomas Java ainda não são traduzidos */
+    private static final int DEFAULT_BIOME_ID = 1;
+    
+    private final ChunkSectionSerializer serializer;
+    private final ForkJoinPool pool;
+    
+    public ChunkTranslator(BlockTranslator blockTranslator, int parallelism) {
+        this.serializer = new ChunkSectionSerializer(blockTranslator);
+        
+        final AtomicInteger threadCounter = new AtomicInteger(0);
+        this.pool = new ForkJoinPool(parallelism, p -> {
+            ForkJoinWorkerThread t = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(p);
+            t.setName("JBB-Chunk-" + threadCounter.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        }, (t, e) -> LOGGER.error("Erro não tratado em {}", t.getName(), e), false);
+        
+        LOGGER.debug("ChunkTranslator criado com paralelismo {}", parallelism);
+    }
+    
+    /**
+     * Traduz uma coluna de chunk em paralelo, seção por seção.
+     * O buffer resultante é o pacote LevelChunk com os sub-chunks em ordem e
+     * pertence ao chamador, que deve liberá-lo (ou repassá-lo ao Netty).
+     */
+    public CompletableFuture<ByteBuf> translateChunk(LevelChunk chunk, ByteBufAllocator alloc) {
+        Objects.requireNonNull(chunk, "chunk não pode ser nulo");
+        Objects.requireNonNull(alloc, "alloc não pode ser nulo");
+        
+        CompletableFuture<ByteBuf> result = new CompletableFuture<>();
+        try {
+            pool.execute(new ColumnTask(chunk, alloc, result));
+        } catch (Exception e) {
+            result.completeExceptionally(e);
+        }
+        return result;
+    }
+    
+    /**
+     * Número de sub-chunks a enviar: até a última seção não vazia
+     */
+    static int countSubChunks(LevelChunkSection[] sections) {
+        for (int i = sections.length - 1; i >= 0; i--) {
+            if (sections[i] != null && !sections[i].hasOnlyAir()) {
+                return i + 1;
+            }
+        }
+        return 0;
+    }
+    
+    /**
+     * Cabeçalho do LevelChunk: ID, posição, dimensão, número de sub-chunks,
+     * cache do cliente desativado e o tamanho do payload que vem a seguir
+     */
+    static void writeLevelChunkHeader(ByteBuf out, int chunkX, int chunkZ, int subChunks, int payloadLength) {
+        ByteBufUtils.writeVarInt(out, BedrockPacketIds.LEVEL_CHUNK);
+        ByteBufUtils.writeZigZagVarInt(out, chunkX);
+        ByteBufUtils.writeZigZagVarInt(out, chunkZ);
+        ByteBufUtils.writeZigZagVarInt(out, DIMENSION_OVERWORLD);
+        ByteBufUtils.writeVarInt(out, subChunks);
+        out.writeBoolean(false);
+        ByteBufUtils.writeVarInt(out, payloadLength);
+    }
+    
+    /**
+     * Fim do payload: uma paleta de bioma de valor único por sub-chunk e o
+     * byte de blocos de borda (nenhum)
+     */
+    static void writeBiomesAndBorder(ByteBuf out, int subChunks) {
+        for (int i = 0; i < subChunks; i++) {
+            out.writeByte(1); // 0 bits por entrada, paleta de runtime
+            ByteBufUtils.writeZigZagVarInt(out, DEFAULT_BIOME_ID);
+        }
+        out.writeByte(0);
+    }
+    
+    public void shutdown() {
+        pool.shutdown();
+        try {
+            if (!pool.awaitTermination(5, TimeUnit.SECONDS)) {
+                LOGGER.warn("Timeout ao encerrar pool de chunks");
+                pool.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            pool.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    public int getParallelism() { return pool.getParallelism(); }
+    public int getQueuedTasks() { return pool.getQueuedSubmissionCount(); }
+    
+    /**
+     * Divide a coluna em seções, executa-as em paralelo e junta os
+     * buffers em ordem num {@link CompositeByteBuf} sem cópias, entre o
+     * cabeçalho e o fim do LevelChunk
+     */
+    private final class ColumnTask extends RecursiveAction {
+        private final LevelChunk chunk;
+        private final ByteBufAllocator alloc;
+        private final CompletableFuture<ByteBuf> result;
+        
+        ColumnTask(LevelChunk chunk, ByteBufAllocator alloc, CompletableFuture<ByteBuf> result) {
+            this.chunk = chunk;
+            this.alloc = alloc;
+            this.result = result;
+        }
+        
+        @Override
+        protected void compute() {
+            SectionTask[] tasks = null;
+            try {
+                LevelChunkSection[] sections = chunk.getSections();
+                int count = countSubChunks(sections);
+                
+                tasks = new SectionTask[count];
+                for (int i = 0; i < count; i++) {
+                    tasks[i] = new SectionTask(sections[i], chunk.getSectionYFromSectionIndex(i), alloc);
+                }
+                ForkJoinTask.invokeAll(tasks);
+                
+                Throwable failure = null;
+                for (SectionTask task : tasks) {
+                    if (task.failure != null && failure == null) {
+                        failure = task.failure;
+                    }
+                }
+                if (failure != null) {
+                    releaseResults(tasks);
+                    result.completeExceptionally(failure);
+                    return;
+                }
+                
+                ByteBuf trailer = alloc.directBuffer(count * 2 + 1);
+                writeBiomesAndBorder(trailer, count);
+                int payloadLength = trailer.readableBytes();
+                for (SectionTask task : tasks) {
+                    payloadLength += task.getRawResult().readableBytes();
+                }
+                ByteBuf header = alloc.directBuffer(24);
+                writeLevelChunkHeader(header, chunk.getPos().x, chunk.getPos().z, count, payloadLength);
+                
+                CompositeByteBuf out = alloc.compositeDirectBuffer(count + 2);
+                out.addComponent(true, header);
+                for (SectionTask task : tasks) {
+                    out.addComponent(true, task.getRawResult());
+                }
+                out.addComponent(true, trailer);
+                result.complete(out);
+            } catch (Throwable e) {
+                // Sem isso uma falha aqui deixaria o future pendente para sempre
+                if (tasks != null) {
+                    releaseResults(tasks);
+                }
+                result.completeExceptionally(e);
+            }
+        }
+        
+        private void releaseResults(SectionTask[] tasks) {
+            for (SectionTask task : tasks) {
+                ByteBuf buf = task != null && task.isDone() ? task.getRawResult() : null;
+                if (buf != null && buf.refCnt() > 0) {
+                    buf.release();
+                }
+            }
+        }
+    }
+    
+    /**
+     * Traduz e serializa uma única seção 16x16x16
+     */
+    private final class SectionTask extends RecursiveTask<ByteBuf> {
+        private final LevelChunkSection section;
+        private final int sectionY;
+        private final ByteBufAllocator alloc;
+        private Throwable failure;
+        
+        SectionTask(LevelChunkSection section, int sectionY, ByteBufAllocator alloc) {
+            this.section = section;
+            this.sectionY = sectionY;
+            this.alloc = alloc;
+        }
+        
+        @Override
+        protected ByteBuf compute() {
+            try {
+                return serializer.serialize(section, sectionY, alloc);
+            } catch (RuntimeException e) {
+                // Não propagar: invokeAll cancelaria as seções irmãs
+                failure = e;
+                return null;
+            }
+        }
+    }
+}
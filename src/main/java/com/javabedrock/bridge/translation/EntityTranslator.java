@@ -1,10 +1,13 @@
 package com.javabedrock.bridge.translation;
 
-import com.google.common.cache.Cache;
 import com.javabedrock.bridge.core.BridgeCore;
+import com.javabedrock.bridge.util.ByteBufUtils;
+import io.netty.buffer.ByteBuf;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.util.Objects;
+
 /**
  * Tradutor de entidades Java para Bedrock
  */
@@ -12,20 +15,47 @@ public class EntityTranslator {
     private static final Logger LOGGER = LogManager.getLogger();
     
     private final BridgeCore bridge;
-    private final Cache<String, Object> cache;
     
-    public EntityTranslator(BridgeCore bridge, Cache<String, Object> cache) {
+    private volatile NamespacedMappings mappings;
+    
+    public EntityTranslator(BridgeCore bridge) {
         this.bridge = bridge;
-        this.cache = cache;
     }
     
-    public void loadMappings() {
-        // TODO: Implementar carregamento de mapeamentos
-        LOGGER.debug("Mapeamentos de entidades carregados");
+    /**
+     * @param lazy materializar cada namespace só na primeira consulta
+     */
+    public void loadMappings(MappingBundle bundle, boolean lazy) {
+        Objects.requireNonNull(bundle, "bundle não pode ser nulo");
+        this.mappings = new NamespacedMappings(bundle.getEntities(), lazy);
+        LOGGER.debug("Mapeamentos de entidades carregados: {} ({} namespaces em memória)",
+            mappings.size(), mappings.getLoadedNamespaceCount());
     }
     
+    /**
+     * Traduz um identificador Java para o {@link BedrockMapping} correspondente.
+     * Retorna null se não houver mapeamento.
+     */
     public Object translate(String entityId) {
-        // TODO: Implementar tradução de entidades
-        return null;
+        NamespacedMappings table = mappings;
+        return table != null ? table.get(entityId) : null;
+    }
+    
+    /**
+     * Serializa a definição de entidade (identificador, runtime ID ZigZag)
+     */
+    static void serialize(BedrockMapping mapping, ByteBuf out) {
+        ByteBufUtils.writeString(out, mapping.identifier());
+        ByteBufUtils.writeZigZagVarInt(out, mapping.runtimeId());
+    }
+    
+    public int getMappedCount() {
+        NamespacedMappings table = mappings;
+        return table != null ? table.size() : 0;
+    }
+    
+    public int getLoadedNamespaceCount() {
+        NamespacedMappings table = mappings;
+        return table != null ? table.getLoadedNamespaceCount() : 0;
     }
 }
@@ -1,10 +1,13 @@
 package com.javabedrock.bridge.translation;
 
-import com.google.common.cache.Cache;
 import com.javabedrock.bridge.core.BridgeCore;
+import com.javabedrock.bridge.util.ByteBufUtils;
+import io.netty.buffer.ByteBuf;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.util.Objects;
+
 /**
  * Tradutor de itens Java para Bedrock
  */
@@ -12,20 +15,48 @@ public class ItemTranslator {
     private static final Logger LOGGER = LogManager.getLogger();
     
     private final BridgeCore bridge;
-    private final Cache<String, Object> cache;
     
-    public ItemTranslator(BridgeCore bridge, Cache<String, Object> cache) {
+    private volatile NamespacedMappings mappings;
+    
+    public ItemTranslator(BridgeCore bridge) {
         this.bridge = bridge;
-        this.cache = cache;
     }
     
-    public void loadMappings() {
-        // TODO: Implementar carregamento de mapeamentos
-        LOGGER.debug("Mapeamentos de itens carregados");
+    /**
+     * @param lazy materializar cada namespace só na primeira consulta
+     */
+    public void loadMappings(MappingBundle bundle, boolean lazy) {
+        Objects.requireNonNull(bundle, "bundle não pode ser nulo");
+        this.mappings = new NamespacedMappings(bundle.getItems(), lazy);
+        LOGGER.debug("Mapeamentos de itens carregados: {} ({} namespaces em memória)",
+            mappings.size(), mappings.getLoadedNamespaceCount());
     }
     
+    /**
+     * Traduz um identificador Java para o {@link BedrockMapping} correspondente.
+     * Retorna null se não houver mapeamento.
+     */
     public Object translate(String itemId) {
-        // TODO: Implementar tradução de itens
-        return null;
+        NamespacedMappings table = mappings;
+        return table != null ? table.get(itemId) : null;
+    }
+    
+    /**
+     * Serializa a definição de item da tabela de itens (identificador, runtime ID LE, component-based)
+     */
+    static void serialize(BedrockMapping mapping, ByteBuf out) {
+        ByteBufUtils.writeString(out, mapping.identifier());
+        out.writeShortLE(mapping.runtimeId());
+        out.writeBoolean(false);
+    }
+    
+    public int getMappedCount() {
+        NamespacedMappings table = mappings;
+        return table != null ? table.size() : 0;
+    }
+    
+    public int getLoadedNamespaceCount() {
+        NamespacedMappings table = mappings;
+        return table != null ? table.getLoadedNamespaceCount() : 0;
     }
 }
@@ -0,0 +1,219 @@
+package com.javabedrock.bridge.translation;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Bundle binário de mapeamentos Java → Bedrock, mapeado em memória
+ *
+ * Gerado no build pela tarefa {@code generateMappingBundle} a partir dos JSON
+ * de {@code src/main/mappings}. Em runtime o arquivo é aberto com
+ * {@link FileChannel#map} e os tradutores leem IDs e nomes direto da região
+ * mapeada, sem parsing. Layout (big-endian):
+ * <pre>
+ * int magic "J2BM", int versão
+ * blocos:    int n, int[n] runtime ID Bedrock indexado pelo runtime ID Java
+ * itens:     tabela de nomes
+ * entidades: tabela de nomes
+ *
+ * tabela de nomes: int n, int tamanhoPool,
+ *   n × (int offJava, short lenJava, int offBedrock, short lenBedrock, int idBedrock),
+ *   pool UTF-8; entradas ordenadas pelos bytes do nome Java
+ * </pre>
+ */
+public final class MappingBundle {
+    private static final Logger LOGGER = LogManager.getLogger();
+    
+    public static final String RESOURCE = "/mappings/mappings.bin";
+    private static final int MAGIC = 0x4A32424D; // "J2BM"
+    private static final int VERSION = 1;
+    
+    private final ByteBuffer buffer;
+    private final int blockCount;
+    private final int blocksOffset;
+    private final NameTable items;
+    private final NameTable entities;
+    
+    private MappingBundle(ByteBuffer buffer) {
+        this.buffer = buffer;
+        
+        int magic = buffer.getInt(0);
+        int version = buffer.getInt(4);
+        if (magic != MAGIC || version != VERSION) {
+            throw new IllegalStateException(String.format(
+                "Bundle de mapeamentos inválido (magic=0x%08X, versão=%d)", magic, version));
+        }
+        
+        this.blockCount = buffer.getInt(8);
+        this.blocksOffset = 12;
+        this.items = new NameTable(buffer, blocksOffset + blockCount * 4);
+        this.entities = new NameTable(buffer, items.end());
+    }
+    
+    /**
+     * Mapeia o bundle do classpath. Se o recurso não existir retorna um
+     * bundle vazio e todos os tradutores usam o fallback.
+     */
+    public static MappingBundle load() throws IOException {
+        URL url = MappingBundle.class.getResource(RESOURCE);
+        if (url == null) {
+            LOGGER.warn("⚠ Recurso {} não encontrado, todos os mapeamentos usarão o fallback", RESOURCE);
+            return empty();
+        }
+        return new MappingBundle(map(url));
+    }
+    
+    static MappingBundle empty() {
+        ByteBuffer empty = ByteBuffer.allocate(28);
+        empty.putInt(MAGIC).putInt(VERSION).putInt(0); // sem blocos
+        empty.putInt(0).putInt(0);                      // sem itens
+        empty.putInt(0).putInt(0);                      // sem entidades
+        return new MappingBundle(empty.flip());
+    }
+    
+    /**
+     * Recursos soltos em disco são mapeados direto; dentro de um jar o
+     * bundle é copiado uma vez para um arquivo temporário
+     */
+    private static ByteBuffer map(URL url) throws IOException {
+        Path path;
+        if ("file".equals(url.getProtocol())) {
+            try {
+                path = Path.of(url.toURI());
+            } catch (URISyntaxException e) {
+                throw new IOException("URL inválida para o bundle: " + url, e);
+            }
+        } else {
+            path = Files.createTempFile("j2b-mappings", ".bin");
+            path.toFile().deleteOnExit();
+            try (InputStream in = url.openStream()) {
+                Files.copy(in, path, StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+        
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            // O mapeamento continua válido depois que o canal é fechado
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+    }
+    
+    /**
+     * Copia em bloco os runtime IDs de blocos para a tabela informada.
+     * Retorna quantos estados o bundle contém.
+     */
+    public int copyBlockRuntimeIds(int[] table) {
+        int count = Math.min(blockCount, table.length);
+        buffer.duplicate().position(blocksOffset).asIntBuffer().get(table, 0, count);
+        return blockCount;
+    }
+    
+    public int getBlockCount() { return blockCount; }
+    public NameTable getItems() { return items; }
+    public NameTable getEntities() { return entities; }
+    
+    public int getSizeBytes() {
+        return buffer.capacity();
+    }
+    
+    /**
+     * Tabela ordenada nome Java → (nome Bedrock, ID Bedrock) lida direto do buffer
+     */
+    public static final class NameTable {
+        private static final int ENTRY_SIZE = 16;
+        
+        private final ByteBuffer buffer;
+        private final int size;
+        private final int entriesOffset;
+        private final int poolOffset;
+        private final int poolSize;
+        
+        private NameTable(ByteBuffer buffer, int offset) {
+            this.buffer = buffer;
+            this.size = buffer.getInt(offset);
+            this.poolSize = buffer.getInt(offset + 4);
+            this.entriesOffset = offset + 8;
+            this.poolOffset = entriesOffset + size * ENTRY_SIZE;
+        }
+        
+        private int end() {
+            return poolOffset + poolSize;
+        }
+        
+        /**
+         * Busca binária pelo nome Java. Retorna o índice da entrada ou -1.
+         * Identificadores de recurso são ASCII, então cada char é comparado
+         * com o byte correspondente sem codificar a chave.
+         */
+        public int find(CharSequence javaName) {
+            int index = lowerBound(javaName);
+            return index < size && compare(index, javaName) == 0 ? index : -1;
+        }
+        
+        /**
+         * Primeira entrada cujo nome Java não é menor que a chave. Como as
+         * entradas estão ordenadas, um namespace ocupa o intervalo
+         * {@code [lowerBound("ns:"), lowerBound("ns;"))}.
+         */
+        public int lowerBound(CharSequence key) {
+            int low = 0;
+            int high = size;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (compare(mid, key) < 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+        
+        private int compare(int index, CharSequence key) {
+            int entry = entriesOffset + index * ENTRY_SIZE;
+            return compare(poolOffset + buffer.getInt(entry), buffer.getShort(entry + 4) & 0xFFFF, key);
+        }
+        
+        private int compare(int offset, int length, CharSequence key) {
+            int n = Math.min(length, key.length());
+            for (int i = 0; i < n; i++) {
+                int diff = (buffer.get(offset + i) & 0xFF) - key.charAt(i);
+                if (diff != 0) {
+                    return diff;
+                }
+            }
+            return length - key.length();
+        }
+        
+        public int bedrockId(int index) {
+            return buffer.getInt(entriesOffset + index * ENTRY_SIZE + 12);
+        }
+        
+        public String javaName(int index) {
+            return string(entriesOffset + index * ENTRY_SIZE);
+        }
+        
+        public String bedrockName(int index) {
+            return string(entriesOffset + index * ENTRY_SIZE + 6);
+        }
+        
+        private String string(int ref) {
+            byte[] bytes = new byte[buffer.getShort(ref + 4) & 0xFFFF];
+            buffer.get(poolOffset + buffer.getInt(ref), bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+        
+        public int size() { return size; }
+    }
+}
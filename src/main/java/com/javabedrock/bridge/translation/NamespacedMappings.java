@@ -0,0 +1,82 @@
+package com.javabedrock.bridge.translation;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Mapeamentos nome Java → Bedrock materializados por namespace
+ *
+ * Cada namespace ({@code minecraft}, {@code create}, ...) vira um mapa no heap
+ * montado a partir da {@link MappingBundle.NameTable}. No modo eager todos são
+ * montados na carga; no modo lazy um namespace só sai da região mapeada na
+ * primeira consulta a um ID dele.
+ */
+final class NamespacedMappings {
+    private static final String DEFAULT_NAMESPACE = "minecraft";
+    
+    private final MappingBundle.NameTable table;
+    private final ConcurrentMap<String, Map<String, BedrockMapping>> namespaces = new ConcurrentHashMap<>();
+    
+    NamespacedMappings(MappingBundle.NameTable table, boolean lazy) {
+        this.table = Objects.requireNonNull(table, "table não pode ser nula");
+        if (!lazy) {
+            materialiseAll();
+        }
+    }
+    
+    BedrockMapping get(String javaId) {
+        int separator = javaId.indexOf(':');
+        String namespace = separator < 0 ? DEFAULT_NAMESPACE : javaId.substring(0, separator);
+        
+        Map<String, BedrockMapping> mappings = namespaces.get(namespace);
+        if (mappings == null) {
+            // Namespace ausente da tabela: nada a guardar, senão qualquer ID
+            // desconhecido deixaria um mapa vazio para trás
+            if (!contains(namespace)) {
+                return null;
+            }
+            mappings = namespaces.computeIfAbsent(namespace, this::materialise);
+        }
+        return mappings.get(separator < 0 ? DEFAULT_NAMESPACE + ':' + javaId : javaId);
+    }
+    
+    private boolean contains(String namespace) {
+        return table.lowerBound(namespace + ':') < table.lowerBound(namespace + ';');
+    }
+    
+    /**
+     * Monta o mapa de um namespace a partir do seu intervalo contíguo na tabela
+     */
+    private Map<String, BedrockMapping> materialise(String namespace) {
+        int from = table.lowerBound(namespace + ':');
+        int to = table.lowerBound(namespace + ';'); // ';' é o caractere seguinte a ':'
+        
+        Map<String, BedrockMapping> mappings = new HashMap<>(Math.max(16, (to - from) * 4 / 3 + 1));
+        for (int i = from; i < to; i++) {
+            mappings.put(table.javaName(i), new BedrockMapping(table.bedrockName(i), table.bedrockId(i)));
+        }
+        return mappings;
+    }
+    
+    private void materialiseAll() {
+        int index = 0;
+        while (index < table.size()) {
+            String name = table.javaName(index);
+            int separator = name.indexOf(':');
+            String namespace = separator < 0 ? name : name.substring(0, separator);
+            namespaces.put(namespace, materialise(namespace));
+            index = Math.max(index + 1, table.lowerBound(namespace + ';'));
+        }
+    }
+    
+    int getLoadedNamespaceCount() {
+        return namespaces.size();
+    }
+    
+    int size() {
+        return table.size();
+    }
+}
@@ -1,62 +1,125 @@
 package com.javabedrock.bridge.translation;
 
-import com.google.common.cache.Cache;
-import com.google.common.cache.CacheBuilder;
 import com.javabedrock.bridge.core.BridgeCore;
+import com.javabedrock.bridge.data.PlayerSession;
+import com.javabedrock.bridge.metrics.MetricsRegistry;
+import com.javabedrock.bridge.network.NetworkManager;
+import com.javabedrock.bridge.util.BridgeCache;
+import com.javabedrock.bridge.util.CacheBackend;
+import com.javabedrock.bridge.util.CacheBudget;
 import com.javabedrock.bridge.util.CacheFactory;
+import com.javabedrock.bridge.util.OffHeapPayloadCache;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.BlockState;
+import net.minecraft.world.level.chunk.LevelChunk;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.Objects;
+import java.util.function.BiConsumer;
 
 /**
  * Engine de tradução de blocos entre Java e Bedrock
  */
 public class TranslationEngine {
     private static final Logger LOGGER = LogManager.getLogger();
+    private static final int ENTITY_CACHE_SLOTS = 1024;
+    /** Separa as chaves de itens e entidades de mesmo identificador no cache off-heap */
+    private static final long ITEM_KEY_SALT = 0x9E3779B97F4A7C15L;
     
     private final BridgeCore bridge;
     private final BlockTranslator blockTranslator;
     private final ItemTranslator itemTranslator;
     private final EntityTranslator entityTranslator;
+    private final ChunkTranslator chunkTranslator;
     
-    private final Cache<String, Object> blockCache;
-    private final Cache<String, Object> itemCache;
-    private final Cache<String, Object> entityCache;
+    private final BridgeCache<String, Object> blockCache;
+    private final BridgeCache<String, Object> itemCache;
+    private final BridgeCache<String, Object> entityCache;
+    private final CacheBudget cacheBudget;
+    private final OffHeapPayloadCache payloadCache;
+    private volatile BlockUpdateCoalescer blockUpdates;
     
     public TranslationEngine(BridgeCore bridge) {
         Objects.requireNonNull(bridge, "bridge não pode ser nula");
         this.bridge = bridge;
         
-        // Usar CacheFactory para caches otimizados
-        this.blockCache = CacheFactory.createBlockCache(
-            bridge.getConfig().MAX_BLOCK_CACHE_SIZE.get());
+        // Usar CacheFactory para caches otimizados, todos dentro de um orçamento
+        // único de memória; os tamanhos configurados definem a divisão inicial
+        CacheBackend backend = bridge.getConfig().CACHE_BACKEND.get();
+        this.cacheBudget = CacheBudget.fromRatio(bridge.getConfig().CACHE_RATIO.get());
         
-        this.itemCache = CacheFactory.createItemCache(
-            bridge.getConfig().MAX_ITEM_CACHE_SIZE.get());
+        double blockSlots = bridge.getConfig().MAX_BLOCK_CACHE_SIZE.get();
+        double itemSlots = bridge.getConfig().MAX_ITEM_CACHE_SIZE.get();
+        double totalSlots = blockSlots + itemSlots + ENTITY_CACHE_SLOTS;
         
-        this.entityCache = CacheFactory.createEntityCache(1024);
+        this.blockCache = CacheFactory.createBlockCache(backend, cacheBudget, blockSlots / totalSlots);
+        this.itemCache = CacheFactory.createItemCache(backend, cacheBudget, itemSlots / totalSlots);
+        this.entityCache = CacheFactory.createEntityCache(backend, cacheBudget, ENTITY_CACHE_SLOTS / totalSlots);
+        
+        // Definições serializadas de itens e entidades ficam fora do heap
+        long offHeapBytes = bridge.getConfig().OFFHEAP_CACHE_MB.get() * 1024L * 1024L;
+        this.payloadCache = new OffHeapPayloadCache(PooledByteBufAllocator.DEFAULT, offHeapBytes);
         
         this.blockTranslator = new BlockTranslator(bridge, blockCache);
-        this.itemTranslator = new ItemTranslator(bridge, itemCache);
-        this.entityTranslator = new EntityTranslator(bridge, entityCache);
+        this.itemTranslator = new ItemTranslator(bridge);
+        this.entityTranslator = new EntityTranslator(bridge);
+        this.chunkTranslator = new ChunkTranslator(blockTranslator, calculateChunkThreads());
+        
+        registerMetrics(bridge.getMetrics());
         
         LOGGER.debug("TranslationEngine criado com caches otimizados");
     }
     
+    /**
+     * Estatísticas dos caches e da fila de tradução, lidas a cada scrape
+     */
+    private void registerMetrics(MetricsRegistry metrics) {
+        registerCacheMetrics(metrics, "block", blockCache);
+        registerCacheMetrics(metrics, "item", itemCache);
+        registerCacheMetrics(metrics, "entity", entityCache);
+        
+        metrics.gauge("j2b_offheap_cache_bytes", "Bytes ocupados no cache off-heap de payloads",
+            payloadCache::getUsedBytes);
+        metrics.gauge("j2b_chunk_translation_queued", "Colunas de chunk aguardando tradução",
+            chunkTranslator::getQueuedTasks);
+    }
+    
+    private static void registerCacheMetrics(MetricsRegistry metrics, String name, BridgeCache<?, ?> cache) {
+        metrics.functionCounter("j2b_cache_hits_total", "Acertos nos caches de tradução",
+            "cache", name, () -> cache.stats().hitCount());
+        metrics.functionCounter("j2b_cache_misses_total", "Faltas nos caches de tradução",
+            "cache", name, () -> cache.stats().missCount());
+        metrics.functionCounter("j2b_cache_evictions_total", "Entradas despejadas dos caches de tradução",
+            "cache", name, () -> cache.stats().evictionCount());
+        metrics.gauge("j2b_cache_entries", "Entradas nos caches de tradução",
+            "cache", name, cache::estimatedSize);
+    }
+    
     public void initialize() {
         long startTime = System.currentTimeMillis();
         
         try {
+            MappingBundle bundle = MappingBundle.load();
+            boolean lazy = bridge.getConfig().LAZY_MAPPINGS.get();
+            LOGGER.debug("Bundle de mapeamentos: {} bytes mapeados (lazy={})", bundle.getSizeBytes(), lazy);
+            
             LOGGER.info("▪ Carregando mapeamentos de blocos...");
-            blockTranslator.loadMappings();
+            blockTranslator.loadMappings(bundle);
+            LOGGER.debug("Tabela de blocos: {} estados", blockTranslator.getMappedStateCount());
             
             LOGGER.info("▪ Carregando mapeamentos de itens...");
-            itemTranslator.loadMappings();
+            itemTranslator.loadMappings(bundle, lazy);
             
             LOGGER.info("▪ Carregando mapeamentos de entidades...");
-            entityTranslator.loadMappings();
+            entityTranslator.loadMappings(bundle, lazy);
+            
+            startBlockUpdateCoalescer();
             
             long elapsed = System.currentTimeMillis() - startTime;
             LOGGER.info("✓ Translation Engine inicializado em {}ms", elapsed);
@@ -70,6 +133,153 @@ public class TranslationEngine {
         }
     }
     
+    private void startBlockUpdateCoalescer() {
+        int windowMs = bridge.getConfig().BLOCK_UPDATE_WINDOW_MS.get();
+        if (windowMs <= 0) {
+            return;
+        }
+        BlockUpdateCoalescer coalescer = new BlockUpdateCoalescer(this, bridge.getNetworkManager(),
+            bridge.getMetrics(), bridge.getConfig().BLOCK_UPDATE_RESEND_THRESHOLD.get());
+        bridge.getMetrics().gauge("j2b_block_update_pending_sections", "Seções com mudanças de bloco na janela atual",
+            coalescer::getPendingSections);
+        coalescer.start(bridge.getBackgroundExecutor(), windowMs);
+        this.blockUpdates = coalescer;
+    }
+    
+    private int calculateChunkThreads() {
+        int configured = bridge.getConfig().CHUNK_THREADS.get();
+        if (configured > 0) {
+            return configured;
+        }
+        // Auto-tuning: deixa um core livre para o event loop de rede
+        return Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+    }
+    
+    /**
+     * Traduz uma coluna de chunk inteira em paralelo.
+     * O buffer entregue é um pacote LevelChunk completo, pronto para a rede,
+     * e deve ser liberado pelo chamador.
+     */
+    public CompletableFuture<ByteBuf> translateChunk(LevelChunk chunk) {
+        MetricsRegistry metrics = bridge.getMetrics();
+        long start = metrics.translationLatency().startTimer();
+        return chunkTranslator.translateChunk(chunk, bridge.getNetworkManager().getAllocator())
+            .whenComplete((buf, error) -> {
+                if (error != null) {
+                    LOGGER.warn("✗ Falha ao traduzir chunk {}", chunk.getPos(), error);
+                } else {
+                    metrics.translationLatency().recordSince(start);
+                    metrics.translatedBlocks().add(
+                        (long) ChunkTranslator.countSubChunks(chunk.getSections()) * ChunkSectionSerializer.SECTION_SIZE);
+                }
+            });
+    }
+    
+    /**
+     * Mudança de bloco sem acesso ao chunk: mesmas regras de
+     * {@link #translateBlockUpdate(LevelChunk, int, int, int, BlockState)},
+     * mas a seção nunca é reenviada por inteiro
+     */
+    public void translateBlockUpdate(int x, int y, int z, BlockState state) {
+        translateBlockUpdate(null, x, y, z, state);
+    }
+    
+    /**
+     * Traduz e codifica uma mudança de bloco uma única vez e a distribui, sem
+     * cópias, apenas às sessões cujo raio de visão cobre o chunk; sem ninguém
+     * olhando nada é traduzido. Com a janela de agrupamento ativa a mudança
+     * sai no fim da janela junto com as demais da mesma seção.
+     */
+    public void translateBlockUpdate(LevelChunk chunk, int x, int y, int z, BlockState state) {
+        BlockUpdateCoalescer coalescer = blockUpdates;
+        if (coalescer != null) {
+            coalescer.add(chunk, x, y, z, Block.getId(state));
+            return;
+        }
+        
+        NetworkManager network = bridge.getNetworkManager();
+        List<PlayerSession> viewers = network.getSessionGrid().viewers(x >> 4, z >> 4);
+        if (viewers.isEmpty()) {
+            return;
+        }
+        
+        ByteBuf packet = network.getAllocator().directBuffer(16);
+        BlockTranslator.writeUpdateBlock(packet, x, y, z, blockTranslator.translate(state));
+        network.broadcast(viewers, packet);
+    }
+    
+    /**
+     * Registra o movimento de uma entidade no tracker das sessões que a
+     * enxergam; os deltas saem no próximo tick de envio de cada sessão
+     */
+    public int translateEntityMove(long runtimeId, double x, double y, double z,
+                                   float pitch, float yaw, float headYaw, boolean onGround) {
+        List<PlayerSession> viewers = bridge.getNetworkManager().getSessionGrid()
+            .viewers((int) Math.floor(x) >> 4, (int) Math.floor(z) >> 4);
+        for (PlayerSession session : viewers) {
+            session.getEntityTracker().update(runtimeId, x, y, z, pitch, yaw, headYaw, onGround);
+        }
+        return viewers.size();
+    }
+    
+    /**
+     * Esquece uma entidade removida do mundo em todas as sessões
+     */
+    public void removeEntity(long runtimeId) {
+        for (PlayerSession session : bridge.getNetworkManager().getSessions()) {
+            session.getEntityTracker().remove(runtimeId);
+        }
+    }
+    
+    /**
+     * Definição Bedrock serializada de um item, servida do cache off-heap.
+     * Retorna null sem mapeamento; o buffer é compartilhado, somente leitura,
+     * e deve ser liberado pelo chamador.
+     */
+    public ByteBuf getSerializedItem(String itemId) {
+        return serialized(OffHeapPayloadCache.hash(itemId) ^ ITEM_KEY_SALT, OffHeapPayloadCache.check(itemId),
+            (BedrockMapping) itemTranslator.translate(itemId), ItemTranslator::serialize);
+    }
+    
+    /**
+     * Definição Bedrock serializada de uma entidade, servida do cache off-heap.
+     * Mesmas regras de {@link #getSerializedItem(String)}.
+     */
+    public ByteBuf getSerializedEntity(String entityId) {
+        return serialized(OffHeapPayloadCache.hash(entityId), OffHeapPayloadCache.check(entityId),
+            (BedrockMapping) entityTranslator.translate(entityId), EntityTranslator::serialize);
+    }
+    
+    private ByteBuf serialized(long key, int check, BedrockMapping mapping,
+                               BiConsumer<BedrockMapping, ByteBuf> serializer) {
+        if (mapping == null) {
+            return null;
+        }
+        return payloadCache.computeIfAbsent(key, check, out -> serializer.accept(mapping, out));
+    }
+    
+    public void shutdown() {
+        BlockUpdateCoalescer coalescer = blockUpdates;
+        if (coalescer != null) {
+            coalescer.stop();
+            blockUpdates = null;
+        }
+        LOGGER.debug("Encerrando pool de tradução de chunks...");
+        chunkTranslator.shutdown();
+        payloadCache.release();
+    }
+    
+    /**
+     * Redistribui o orçamento de memória entre os caches conforme a pressão
+     */
+    public void rebalanceCaches() {
+        cacheBudget.rebalance();
+        if (bridge.isDebugMode()) {
+            LOGGER.debug("Orçamento de cache: {}/{} MB",
+                cacheBudget.getUsedBytes() / (1024 * 1024), cacheBudget.getTotalBytes() / (1024 * 1024));
+        }
+    }
+    
     public void cleanupCaches() {
         LOGGER.debug("Limpando caches...");
         
@@ -101,6 +311,10 @@ public class TranslationEngine {
             LOGGER.debug("Cache Stats - Items: hit={}, miss={}, rate={:.2f}%",
                 itemStats.hitCount(), itemStats.missCount(),
                 itemStats.hitRate() * 100);
+            
+            LOGGER.debug("Cache off-heap: {} payloads, {}/{} KB, {} rejeitados",
+                payloadCache.getEntryCount(), payloadCache.getUsedBytes() / 1024,
+                payloadCache.getAllocatedBytes() / 1024, payloadCache.getRejectedCount());
         } catch (Exception e) {
             LOGGER.debug("Sem estatísticas disponíveis", e);
         }
@@ -110,8 +324,11 @@ public class TranslationEngine {
     public BlockTranslator getBlockTranslator() { return blockTranslator; }
     public ItemTranslator getItemTranslator() { return itemTranslator; }
     public EntityTranslator getEntityTranslator() { return entityTranslator; }
+    public ChunkTranslator getChunkTranslator() { return chunkTranslator; }
     
-    public Cache<String, Object> getBlockCache() { return blockCache; }
-    public Cache<String, Object> getItemCache() { return itemCache; }
-    public Cache<String, Object> getEntityCache() { return entityCache; }
+    public BridgeCache<String, Object> getBlockCache() { return blockCache; }
+    public BridgeCache<String, Object> getItemCache() { return itemCache; }
+    public BridgeCache<String, Object> getEntityCache() { return entityCache; }
+    public CacheBudget getCacheBudget() { return cacheBudget; }
+    public OffHeapPayloadCache getPayloadCache() { return payloadCache; }
 }
@@ -0,0 +1,47 @@
+package com.javabedrock.bridge.util;
+
+import com.google.common.cache.CacheStats;
+
+import java.util.function.Function;
+
+/**
+ * Cache da bridge, independente do backend (ver {@link CacheBackend})
+ *
+ * As estatísticas usam o {@link CacheStats} do Guava como formato comum
+ * para todos os backends.
+ */
+public interface BridgeCache<K, V> {
+    
+    V getIfPresent(K key);
+    
+    /**
+     * Retorna o valor da chave, calculando-o com o loader se ausente.
+     * Se o loader retornar null nada é armazenado e o retorno é null.
+     */
+    V get(K key, Function<? super K, ? extends V> loader);
+    
+    void put(K key, V value);
+    
+    void invalidate(K key);
+    
+    void invalidateAll();
+    
+    long estimatedSize();
+    
+    /**
+     * Peso total estimado das entradas, em bytes (ver {@link CacheBudget})
+     */
+    long weightedSize();
+    
+    /**
+     * Ajusta o peso máximo do cache. Retorna false se o backend não suporta
+     * redimensionamento em tempo de execução.
+     */
+    boolean setMaximumWeight(long maximumWeight);
+    
+    void cleanUp();
+    
+    CacheStats stats();
+    
+    CacheBackend backend();
+}
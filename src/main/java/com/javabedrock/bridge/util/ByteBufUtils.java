@@ -0,0 +1,91 @@
+package com.javabedrock.bridge.util;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.handler.codec.CorruptedFrameException;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Utilitários de codificação VarInt usados pelo protocolo Bedrock
+ */
+public final class ByteBufUtils {
+    
+    private ByteBufUtils() {
+        throw new AssertionError("Classe utilitária não deve ser instanciada");
+    }
+    
+    /**
+     * Escreve um VarInt sem sinal (LEB128)
+     */
+    public static void writeVarInt(ByteBuf buf, int value) {
+        while ((value & ~0x7F) != 0) {
+            buf.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buf.writeByte(value);
+    }
+    
+    /**
+     * Escreve um VarLong sem sinal (LEB128)
+     */
+    public static void writeVarLong(ByteBuf buf, long value) {
+        while ((value & ~0x7FL) != 0) {
+            buf.writeByte((int) (value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buf.writeByte((int) value);
+    }
+    
+    /**
+     * Bytes ocupados por um VarInt sem sinal
+     */
+    public static int varIntSize(int value) {
+        return (38 - Integer.numberOfLeadingZeros(value | 1)) / 7;
+    }
+    
+    /**
+     * Bytes ocupados por um VarLong sem sinal
+     */
+    public static int varLongSize(long value) {
+        return (70 - Long.numberOfLeadingZeros(value | 1)) / 7;
+    }
+    
+    /**
+     * Escreve um VarInt com sinal usando codificação ZigZag
+     */
+    public static void writeZigZagVarInt(ByteBuf buf, int value) {
+        writeVarInt(buf, (value << 1) ^ (value >> 31));
+    }
+    
+    /**
+     * Escreve uma string UTF-8 com prefixo de tamanho VarInt
+     */
+    public static void writeString(ByteBuf buf, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(buf, bytes.length);
+        buf.writeBytes(bytes);
+    }
+    
+    /**
+     * Lê um VarInt sem sinal (LEB128)
+     */
+    public static int readVarInt(ByteBuf buf) {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            byte b = buf.readByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new CorruptedFrameException("VarInt maior que 5 bytes");
+    }
+    
+    /**
+     * Lê um VarInt com sinal codificado em ZigZag
+     */
+    public static int readZigZagVarInt(ByteBuf buf) {
+        int raw = readVarInt(buf);
+        return (raw >>> 1) ^ -(raw & 1);
+    }
+}
@@ -0,0 +1,11 @@
+package com.javabedrock.bridge.util;
+
+/**
+ * Implementações de cache disponíveis no {@link CacheFactory}
+ */
+public enum CacheBackend {
+    /** Caffeine com admissão W-TinyLFU: resiste a varreduras e tem leituras sem lock */
+    TINY_LFU,
+    /** Guava CacheBuilder com LRU segmentado */
+    LRU
+}
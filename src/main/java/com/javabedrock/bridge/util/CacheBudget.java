@@ -0,0 +1,140 @@
+package com.javabedrock.bridge.util;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Orçamento global de memória compartilhado pelos caches do {@link CacheFactory}
+ *
+ * Cada cache recebe uma fatia em bytes do total ({@code cache_ratio * maxMemory})
+ * e é limitado por peso, não por número de entradas. Em {@link #rebalance()} as
+ * fatias são redistribuídas conforme a pressão de cada cache: os bytes que
+ * faltaram (misses × peso médio da entrada) desde o último rebalanceamento.
+ */
+public final class CacheBudget {
+    private static final Logger LOGGER = LogManager.getLogger();
+    
+    /** Fração mínima do orçamento garantida a cada cache */
+    private static final double MIN_SHARE = 0.05;
+    /** Peso da nova fatia ao rebalancear; o resto vem da fatia atual */
+    private static final double SMOOTHING = 0.5;
+    private static final long MIN_CACHE_BYTES = 64 * 1024;
+    private static final long DEFAULT_ENTRY_BYTES = 128;
+    
+    private final long totalBytes;
+    private final List<Member> members = new CopyOnWriteArrayList<>();
+    
+    public CacheBudget(long totalBytes) {
+        if (totalBytes <= 0) {
+            throw new IllegalArgumentException("totalBytes deve ser > 0");
+        }
+        this.totalBytes = totalBytes;
+    }
+    
+    /**
+     * Orçamento como fração da memória máxima da JVM
+     */
+    public static CacheBudget fromRatio(double cacheRatio) {
+        if (cacheRatio <= 0 || cacheRatio > 1.0) {
+            cacheRatio = 0.25;
+        }
+        return new CacheBudget((long) (Runtime.getRuntime().maxMemory() * cacheRatio));
+    }
+    
+    /**
+     * Bytes correspondentes a uma fração do orçamento
+     */
+    long bytesFor(double share) {
+        return Math.max(MIN_CACHE_BYTES, (long) (totalBytes * share));
+    }
+    
+    void register(String name, BridgeCache<?, ?> cache, long maximumBytes) {
+        members.add(new Member(name, Objects.requireNonNull(cache, "cache não pode ser nulo"), maximumBytes));
+    }
+    
+    /**
+     * Redistribui o orçamento entre os caches conforme a pressão de cada um.
+     * Caches que não aceitam redimensionamento (Guava) mantêm a fatia inicial.
+     */
+    public synchronized void rebalance() {
+        if (members.size() < 2) {
+            return;
+        }
+        
+        double[] demand = new double[members.size()];
+        double totalDemand = 0;
+        for (int i = 0; i < demand.length; i++) {
+            Member member = members.get(i);
+            long misses = member.cache.stats().missCount();
+            long newMisses = Math.max(0, misses - member.lastMisses);
+            member.lastMisses = misses;
+            
+            demand[i] = newMisses * (double) member.averageEntryBytes();
+            totalDemand += demand[i];
+        }
+        if (totalDemand == 0) {
+            return;
+        }
+        
+        double flexibleShare = 1.0 - MIN_SHARE * members.size();
+        for (int i = 0; i < demand.length; i++) {
+            Member member = members.get(i);
+            double share = MIN_SHARE + flexibleShare * demand[i] / totalDemand;
+            long target = bytesFor(share);
+            long next = (long) (member.maximumBytes * (1 - SMOOTHING) + target * SMOOTHING);
+            
+            if (next == member.maximumBytes) {
+                continue;
+            }
+            if (member.cache.setMaximumWeight(next)) {
+                LOGGER.debug("Cache {}: orçamento {} KB → {} KB", member.name,
+                    member.maximumBytes / 1024, next / 1024);
+                member.maximumBytes = next;
+            } else if (!member.fixedSizeLogged) {
+                member.fixedSizeLogged = true;
+                LOGGER.info("Cache {} não aceita redimensionamento (backend LRU); " +
+                    "mantendo a fatia inicial de {} KB", member.name, member.maximumBytes / 1024);
+            }
+        }
+    }
+    
+    public long getTotalBytes() {
+        return totalBytes;
+    }
+    
+    /**
+     * Soma do peso estimado de todas as entradas dos caches registrados
+     */
+    public long getUsedBytes() {
+        long used = 0;
+        for (Member member : members) {
+            used += Math.max(0, member.cache.weightedSize());
+        }
+        return used;
+    }
+    
+    private static final class Member {
+        final String name;
+        final BridgeCache<?, ?> cache;
+        long maximumBytes;
+        long lastMisses;
+        boolean fixedSizeLogged;
+        
+        Member(String name, BridgeCache<?, ?> cache, long maximumBytes) {
+            this.name = name;
+            this.cache = cache;
+            this.maximumBytes = maximumBytes;
+            this.lastMisses = cache.stats().missCount();
+        }
+        
+        long averageEntryBytes() {
+            long size = cache.estimatedSize();
+            long weight = cache.weightedSize();
+            return size > 0 && weight > 0 ? weight / size : DEFAULT_ENTRY_BYTES;
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.javabedrock.bridge.util;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.RemovalNotification;
@@ -11,10 +13,15 @@ import java.util.concurrent.TimeUnit;
 
 /**
  * Factory para criação otimizada de caches com logging detalhado
+ *
+ * O backend padrão é o W-TinyLFU do Caffeine, que mantém as entradas
+ * frequentes mesmo sob varreduras (ex: exploração de mundo); o LRU do
+ * Guava continua disponível via {@link CacheBackend#LRU}. Todos os caches são
+ * limitados por peso estimado em bytes e dividem um {@link CacheBudget}.
  */
 public class CacheFactory {
     private static final Logger LOGGER = LogManager.getLogger();
-    private static final Map<String, Cache<?, ?>> CACHE_REGISTRY = Collections.synchronizedMap(new WeakHashMap<>());
+    private static final Map<String, BridgeCache<?, ?>> CACHE_REGISTRY = Collections.synchronizedMap(new WeakHashMap<>());
     private static int cacheCounter = 0;
     
     private CacheFactory() {
@@ -23,59 +30,98 @@ public class CacheFactory {
     
     /**
      * Cria um cache com configurações padrão otimizadas
+     *
+     * @param budget orçamento global de onde sai a fatia do cache
+     * @param share fração inicial do orçamento (redistribuída por {@link CacheBudget#rebalance()})
      */
-    public static <K, V> Cache<K, V> createCache(
-            long maxSize,
+    public static <K, V> BridgeCache<K, V> createCache(
+            CacheBackend backend,
+            CacheBudget budget,
+            double share,
             long expireAfterAccessMinutes,
             boolean recordStats) {
         
-        if (maxSize <= 0) {
-            throw new IllegalArgumentException("maxSize deve ser > 0");
+        if (share <= 0 || share > 1.0) {
+            throw new IllegalArgumentException("share deve estar em (0, 1]");
         }
         if (expireAfterAccessMinutes <= 0) {
             throw new IllegalArgumentException("expireAfterAccessMinutes deve ser > 0");
         }
+        Objects.requireNonNull(backend, "backend não pode ser nulo");
+        Objects.requireNonNull(budget, "budget não pode ser nulo");
         
-        CacheBuilder builder = CacheBuilder.newBuilder()
-            .maximumSize(Math.min(maxSize, Long.MAX_VALUE / 2))
-            .expireAfterAccess(expireAfterAccessMinutes, TimeUnit.MINUTES)
-            .concurrencyLevel(Math.max(1, Runtime.getRuntime().availableProcessors()))
-            .removalListener(CacheFactory::logRemoval);
-        
-        if (recordStats) {
-            builder.recordStats();
-        }
-        
-        Cache<K, V> cache = builder.build();
+        long maxBytes = budget.bytesFor(share);
+        BridgeCache<K, V> cache = backend == CacheBackend.LRU
+            ? buildGuava(maxBytes, expireAfterAccessMinutes, recordStats)
+            : buildCaffeine(maxBytes, expireAfterAccessMinutes, recordStats);
         
         String cacheId = "Cache-" + (++cacheCounter);
         CACHE_REGISTRY.put(cacheId, cache);
+        budget.register(cacheId, cache, maxBytes);
         
-        LOGGER.debug("✓ {} criado: {} máx, {} min expiry, stats={}", 
-            cacheId, maxSize, expireAfterAccessMinutes, recordStats);
+        LOGGER.debug("✓ {} criado ({}): {} KB máx, {} min expiry, stats={}", 
+            cacheId, backend, maxBytes / 1024, expireAfterAccessMinutes, recordStats);
         
         return cache;
     }
     
+    private static <K, V> BridgeCache<K, V> buildCaffeine(long maxBytes, long expireAfterAccessMinutes, boolean recordStats) {
+        Caffeine<Object, Object> builder = Caffeine.newBuilder()
+            .maximumWeight(maxBytes)
+            .weigher(CacheWeigher::weigh)
+            .expireAfterAccess(expireAfterAccessMinutes, TimeUnit.MINUTES);
+        
+        // O listener só é registrado com debug ativo: fora disso cada remoção seria trabalho perdido
+        if (LOGGER.isDebugEnabled()) {
+            builder.removalListener((key, value, cause) -> {
+                if (cause == RemovalCause.SIZE) {
+                    LOGGER.debug("⚠ Cache entry evicted: key={}", key);
+                }
+            });
+        }
+        if (recordStats) {
+            builder.recordStats();
+        }
+        return new CaffeineBridgeCache<>(builder.build());
+    }
+    
+    private static <K, V> BridgeCache<K, V> buildGuava(long maxBytes, long expireAfterAccessMinutes, boolean recordStats) {
+        CacheBuilder<Object, Object> builder = CacheBuilder.newBuilder()
+            .maximumWeight(maxBytes)
+            .weigher(CacheWeigher::weigh)
+            .expireAfterAccess(expireAfterAccessMinutes, TimeUnit.MINUTES)
+            .concurrencyLevel(Math.max(1, Runtime.getRuntime().availableProcessors()));
+        
+        if (recordStats) {
+            builder.recordStats();
+        }
+        
+        Cache<K, V> cache = LOGGER.isDebugEnabled()
+            ? builder.<K, V>removalListener(CacheFactory::logRemoval).build()
+            : builder.build();
+        return new GuavaBridgeCache<>(cache);
+    }
+    
     /**
      * Cria um cache de blocos otimizado (2 horas de expiração)
      */
-    public static <K, V> Cache<K, V> createBlockCache(long maxSize) {
-        return createCache(maxSize, 120, true);
+    public static <K, V> BridgeCache<K, V> createBlockCache(CacheBackend backend, CacheBudget budget, double share) {
+        return createCache(backend, budget, share, 120, true);
     }
     
     /**
      * Cria um cache de itens otimizado (1 hora de expiração)
      */
-    public static <K, V> Cache<K, V> createItemCache(long maxSize) {
-        return createCache(maxSize, 60, true);
+    public static <K, V> BridgeCache<K, V> createItemCache(CacheBackend backend, CacheBudget budget, double share) {
+        return createCache(backend, budget, share, 60, true);
     }
     
     /**
-     * Cria um cache de entidades otimizado (1 hora, sem stats)
+     * Cria um cache de entidades otimizado (1 hora de expiração).
+     * As stats ficam ativas porque o rebalanceamento do orçamento depende dos misses.
      */
-    public static <K, V> Cache<K, V> createEntityCache(long maxSize) {
-        return createCache(maxSize, 60, false);
+    public static <K, V> BridgeCache<K, V> createEntityCache(CacheBackend backend, CacheBudget budget, double share) {
+        return createCache(backend, budget, share, 60, true);
     }
     
     /**
@@ -90,7 +136,7 @@ public class CacheFactory {
     /**
      * Obter estatísticas de cache (se disponível)
      */
-    public static Map<String, String> getCacheStats(Cache<?, ?> cache) {
+    public static Map<String, String> getCacheStats(BridgeCache<?, ?> cache) {
         Map<String, String> stats = new LinkedHashMap<>();
         try {
             var cacheStats = cache.stats();
@@ -110,7 +156,7 @@ public class CacheFactory {
     public static void logAllCacheStats() {
         LOGGER.info("╔════════ Cache Statistics ════════╗");
         int count = 0;
-        for (Cache<?, ?> cache : CACHE_REGISTRY.values()) {
+        for (BridgeCache<?, ?> cache : CACHE_REGISTRY.values()) {
             if (cache != null) {
                 var stats = getCacheStats(cache);
                 LOGGER.info("║ Cache {}: Hit Rate = {}", count++, stats.get("hitRate"));
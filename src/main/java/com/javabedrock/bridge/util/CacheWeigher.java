@@ -0,0 +1,53 @@
+package com.javabedrock.bridge.util;
+
+import io.netty.buffer.ByteBuf;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Estimativa do tamanho retido por uma entrada de cache, em bytes
+ *
+ * Não é um cálculo exato do layout da JVM: o objetivo é que payloads grandes
+ * (buffers NBT, chunks serializados) pesem proporcionalmente ao que ocupam,
+ * em vez de contarem como uma entrada qualquer.
+ */
+final class CacheWeigher {
+    // Nó da tabela hash + referências do cache (Caffeine/Guava)
+    private static final int ENTRY_OVERHEAD = 64;
+    private static final int OBJECT_HEADER = 16;
+    private static final int DEFAULT_OBJECT_BYTES = 64;
+    
+    private CacheWeigher() {
+        throw new AssertionError("Não deve ser instanciado");
+    }
+    
+    static int weigh(Object key, Object value) {
+        long bytes = ENTRY_OVERHEAD + sizeOf(key) + sizeOf(value);
+        return (int) Math.min(Integer.MAX_VALUE, bytes);
+    }
+    
+    static long sizeOf(Object value) {
+        if (value == null) {
+            return 0;
+        }
+        if (value instanceof String s) {
+            return OBJECT_HEADER + 24 + s.length(); // String + byte[] latin1
+        }
+        if (value instanceof Number || value instanceof Boolean) {
+            return OBJECT_HEADER;
+        }
+        if (value instanceof byte[] bytes) {
+            return OBJECT_HEADER + bytes.length;
+        }
+        if (value instanceof int[] ints) {
+            return OBJECT_HEADER + 4L * ints.length;
+        }
+        if (value instanceof ByteBuf buf) {
+            return DEFAULT_OBJECT_BYTES + buf.capacity();
+        }
+        if (value instanceof ByteBuffer buffer) {
+            return DEFAULT_OBJECT_BYTES + (buffer.isDirect() ? 0 : buffer.capacity());
+        }
+        return DEFAULT_OBJECT_BYTES;
+    }
+}
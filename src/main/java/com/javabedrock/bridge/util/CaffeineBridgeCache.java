@@ -0,0 +1,79 @@
+package com.javabedrock.bridge.util;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.google.common.cache.CacheStats;
+
+import java.util.function.Function;
+
+/**
+ * {@link BridgeCache} sobre o Caffeine (W-TinyLFU, leituras sem lock)
+ */
+final class CaffeineBridgeCache<K, V> implements BridgeCache<K, V> {
+    private final Cache<K, V> cache;
+    
+    CaffeineBridgeCache(Cache<K, V> cache) {
+        this.cache = cache;
+    }
+    
+    @Override
+    public V getIfPresent(K key) {
+        return cache.getIfPresent(key);
+    }
+    
+    @Override
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        return cache.get(key, loader);
+    }
+    
+    @Override
+    public void put(K key, V value) {
+        cache.put(key, value);
+    }
+    
+    @Override
+    public void invalidate(K key) {
+        cache.invalidate(key);
+    }
+    
+    @Override
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+    
+    @Override
+    public long estimatedSize() {
+        return cache.estimatedSize();
+    }
+    
+    @Override
+    public long weightedSize() {
+        return cache.policy().eviction()
+            .map(eviction -> eviction.weightedSize().orElse(-1L))
+            .orElse(-1L);
+    }
+    
+    @Override
+    public boolean setMaximumWeight(long maximumWeight) {
+        return cache.policy().eviction().map(eviction -> {
+            eviction.setMaximum(maximumWeight);
+            return true;
+        }).orElse(false);
+    }
+    
+    @Override
+    public void cleanUp() {
+        cache.cleanUp();
+    }
+    
+    @Override
+    public CacheStats stats() {
+        var stats = cache.stats();
+        return new CacheStats(stats.hitCount(), stats.missCount(), stats.loadSuccessCount(),
+            stats.loadFailureCount(), stats.totalLoadTime(), stats.evictionCount());
+    }
+    
+    @Override
+    public CacheBackend backend() {
+        return CacheBackend.TINY_LFU;
+    }
+}
@@ -0,0 +1,91 @@
+package com.javabedrock.bridge.util;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheLoader.InvalidCacheLoadException;
+import com.google.common.cache.CacheStats;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+
+import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
+
+/**
+ * {@link BridgeCache} sobre o Guava {@link Cache} (LRU segmentado)
+ */
+final class GuavaBridgeCache<K, V> implements BridgeCache<K, V> {
+    private final Cache<K, V> cache;
+    
+    GuavaBridgeCache(Cache<K, V> cache) {
+        this.cache = cache;
+    }
+    
+    @Override
+    public V getIfPresent(K key) {
+        return cache.getIfPresent(key);
+    }
+    
+    @Override
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        try {
+            return cache.get(key, () -> loader.apply(key));
+        } catch (InvalidCacheLoadException e) {
+            return null; // loader retornou null
+        } catch (ExecutionException | UncheckedExecutionException e) {
+            throw new IllegalStateException("Falha ao carregar " + key, e.getCause());
+        }
+    }
+    
+    @Override
+    public void put(K key, V value) {
+        cache.put(key, value);
+    }
+    
+    @Override
+    public void invalidate(K key) {
+        cache.invalidate(key);
+    }
+    
+    @Override
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+    
+    @Override
+    public long estimatedSize() {
+        return cache.size();
+    }
+    
+    /**
+     * O Guava não expõe o peso acumulado; estimado pelas entradas atuais
+     */
+    @Override
+    public long weightedSize() {
+        long weight = 0;
+        for (var entry : cache.asMap().entrySet()) {
+            weight += CacheWeigher.weigh(entry.getKey(), entry.getValue());
+        }
+        return weight;
+    }
+    
+    /**
+     * O limite do Guava é fixo na construção
+     */
+    @Override
+    public boolean setMaximumWeight(long maximumWeight) {
+        return false;
+    }
+    
+    @Override
+    public void cleanUp() {
+        cache.cleanUp();
+    }
+    
+    @Override
+    public CacheStats stats() {
+        return cache.stats();
+    }
+    
+    @Override
+    public CacheBackend backend() {
+        return CacheBackend.LRU;
+    }
+}
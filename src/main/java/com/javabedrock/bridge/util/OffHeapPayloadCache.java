@@ -0,0 +1,286 @@
+package com.javabedrock.bridge.util;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * Cache off-heap de payloads Bedrock já serializados
+ *
+ * Os payloads ficam em slabs de memória direta alocados sob demanda até a
+ * capacidade configurada; o índice é uma tabela de endereçamento aberto de
+ * chaves de 64 bits (hash do identificador), sem objetos por entrada. Cada
+ * entrada guarda também um segundo hash de 32 bits, para que uma colisão da
+ * chave não entregue o payload de outro identificador. Leituras devolvem um
+ * {@link ByteBuf#retainedSlice} somente leitura do slab, sem cópia, que o
+ * chamador deve liberar. Os dados quase não mudam, então não há
+ * despejo; com os slabs cheios novas entradas simplesmente não são guardadas.
+ */
+public final class OffHeapPayloadCache {
+    private static final Logger LOGGER = LogManager.getLogger();
+    
+    public static final int SLAB_SIZE = 1024 * 1024;
+    private static final int INITIAL_SLOTS = 1024;
+    private static final long EMPTY = 0L;
+    
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+    
+    private final ByteBufAllocator allocator;
+    private final int maxSlabs;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final List<ByteBuf> slabs = new ArrayList<>();
+    
+    // Índice: (chave, verificação) → (slab, offset, tamanho); chave 0 marca slot livre
+    private long[] keys = new long[INITIAL_SLOTS];
+    private int[] checks = new int[INITIAL_SLOTS];
+    private int[] slabIndex = new int[INITIAL_SLOTS];
+    private int[] offsets = new int[INITIAL_SLOTS];
+    private int[] lengths = new int[INITIAL_SLOTS];
+    private int entries;
+    private long usedBytes;
+    private long rejected;
+    private boolean released;
+    
+    /**
+     * @param capacityBytes limite de memória direta; 0 desativa o cache
+     */
+    public OffHeapPayloadCache(ByteBufAllocator allocator, long capacityBytes) {
+        this.allocator = Objects.requireNonNull(allocator, "allocator não pode ser nulo");
+        if (capacityBytes < 0) {
+            throw new IllegalArgumentException("capacityBytes deve ser >= 0");
+        }
+        this.maxSlabs = (int) Math.min(Integer.MAX_VALUE, capacityBytes / SLAB_SIZE);
+    }
+    
+    /**
+     * Hash FNV-1a de 64 bits de um identificador
+     */
+    public static long hash(CharSequence key) {
+        long hash = FNV_OFFSET;
+        for (int i = 0; i < key.length(); i++) {
+            hash ^= key.charAt(i);
+            hash *= FNV_PRIME;
+        }
+        return hash == EMPTY ? 1L : hash;
+    }
+    
+    /**
+     * Hash de verificação de um identificador, independente de {@link #hash}
+     */
+    public static int check(CharSequence key) {
+        int hash = key.length();
+        for (int i = 0; i < key.length(); i++) {
+            hash = 31 * hash + key.charAt(i);
+        }
+        return hash;
+    }
+    
+    /**
+     * Slice retido do payload ou null se a chave não estiver no cache
+     */
+    public ByteBuf get(long key, int check) {
+        key = key == EMPTY ? 1L : key;
+        lock.readLock().lock();
+        try {
+            return sliceOf(key, check);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * Slice retido do payload da chave, serializando-o na primeira vez.
+     * Se o payload não couber no cache o resultado é um buffer avulso com a
+     * serialização, que também deve ser liberado pelo chamador.
+     */
+    public ByteBuf computeIfAbsent(long key, int check, Consumer<ByteBuf> serializer) {
+        ByteBuf cached = get(key, check);
+        if (cached != null) {
+            return cached;
+        }
+        
+        ByteBuf payload = allocator.buffer();
+        try {
+            serializer.accept(payload);
+        } catch (RuntimeException e) {
+            payload.release();
+            throw e;
+        }
+        
+        ByteBuf slice = put(key == EMPTY ? 1L : key, check, payload);
+        if (slice == null) {
+            return payload.asReadOnly();
+        }
+        payload.release();
+        return slice;
+    }
+    
+    private ByteBuf put(long key, int check, ByteBuf payload) {
+        int length = payload.readableBytes();
+        lock.writeLock().lock();
+        try {
+            // Outra thread pode ter serializado a mesma chave nesse meio tempo
+            ByteBuf existing = sliceOf(key, check);
+            if (existing != null) {
+                return existing;
+            }
+            
+            ByteBuf slab = slabFor(length);
+            if (slab == null) {
+                rejected++;
+                return null;
+            }
+            
+            int offset = slab.writerIndex();
+            slab.writeBytes(payload, payload.readerIndex(), length);
+            insert(key, check, slabs.size() - 1, offset, length);
+            usedBytes += length;
+            return slab.retainedSlice(offset, length).asReadOnly();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    /**
+     * Slab atual se houver espaço, senão um novo dentro da capacidade
+     */
+    private ByteBuf slabFor(int length) {
+        if (released || length > SLAB_SIZE) {
+            return null;
+        }
+        if (!slabs.isEmpty()) {
+            ByteBuf current = slabs.get(slabs.size() - 1);
+            if (current.writableBytes() >= length) {
+                return current;
+            }
+        }
+        if (slabs.size() >= maxSlabs) {
+            return null;
+        }
+        
+        ByteBuf slab = allocator.directBuffer(SLAB_SIZE, SLAB_SIZE);
+        slabs.add(slab);
+        LOGGER.debug("Novo slab off-heap alocado ({} de {})", slabs.size(), maxSlabs);
+        return slab;
+    }
+    
+    private ByteBuf sliceOf(long key, int check) {
+        if (released) {
+            return null;
+        }
+        int mask = keys.length - 1;
+        for (int slot = mix(key) & mask; keys[slot] != EMPTY; slot = (slot + 1) & mask) {
+            if (keys[slot] == key && checks[slot] == check) {
+                return slabs.get(slabIndex[slot]).retainedSlice(offsets[slot], lengths[slot]).asReadOnly();
+            }
+        }
+        return null;
+    }
+    
+    private void insert(long key, int check, int slab, int offset, int length) {
+        // Fator de carga máximo de 0.5 mantém as sondagens curtas
+        if ((entries + 1) * 2 > keys.length) {
+            resize();
+        }
+        int mask = keys.length - 1;
+        int slot = mix(key) & mask;
+        while (keys[slot] != EMPTY) {
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        checks[slot] = check;
+        slabIndex[slot] = slab;
+        offsets[slot] = offset;
+        lengths[slot] = length;
+        entries++;
+    }
+    
+    private void resize() {
+        long[] oldKeys = keys;
+        int[] oldChecks = checks;
+        int[] oldSlabs = slabIndex;
+        int[] oldOffsets = offsets;
+        int[] oldLengths = lengths;
+        
+        int capacity = oldKeys.length * 2;
+        keys = new long[capacity];
+        checks = new int[capacity];
+        slabIndex = new int[capacity];
+        offsets = new int[capacity];
+        lengths = new int[capacity];
+        entries = 0;
+        
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY) {
+                insert(oldKeys[i], oldChecks[i], oldSlabs[i], oldOffsets[i], oldLengths[i]);
+            }
+        }
+    }
+    
+    private static int mix(long key) {
+        return (int) (key ^ (key >>> 32));
+    }
+    
+    /**
+     * Libera os slabs; slices já entregues continuam válidos até serem liberados
+     */
+    public void release() {
+        lock.writeLock().lock();
+        try {
+            if (released) {
+                return;
+            }
+            released = true;
+            slabs.forEach(ByteBuf::release);
+            slabs.clear();
+            LOGGER.debug("Cache off-heap liberado: {} payloads, {} KB", entries, usedBytes / 1024);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    public int getEntryCount() {
+        lock.readLock().lock();
+        try {
+            return entries;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    public long getUsedBytes() {
+        lock.readLock().lock();
+        try {
+            return usedBytes;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    public long getAllocatedBytes() {
+        lock.readLock().lock();
+        try {
+            return (long) slabs.size() * SLAB_SIZE;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    public long getRejectedCount() {
+        lock.readLock().lock();
+        try {
+            return rejected;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+}
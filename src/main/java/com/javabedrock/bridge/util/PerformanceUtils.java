@@ -67,6 +67,26 @@ public class PerformanceUtils {
         }
     }
     
+    /**
+     * Cria um executor de virtual threads (uma por tarefa) quando a JVM
+     * suporta (Java 21+). O build mira Java 17, por isso a API é acessada
+     * via reflexão. Retorna null se não houver suporte.
+     */
+    public static ExecutorService newVirtualThreadExecutor(String namePrefix) {
+        try {
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            Class<?> ofVirtual = Class.forName("java.lang.Thread$Builder$OfVirtual");
+            builder = ofVirtual.getMethod("name", String.class, long.class).invoke(builder, namePrefix, 0L);
+            ThreadFactory factory = (ThreadFactory) ofVirtual.getMethod("factory").invoke(builder);
+            return (ExecutorService) Executors.class
+                .getMethod("newThreadPerTaskExecutor", ThreadFactory.class)
+                .invoke(null, factory);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            LOGGER.debug("Virtual threads indisponíveis nesta JVM ({})", System.getProperty("java.version"));
+            return null;
+        }
+    }
+    
     /**
      * Obter informações de memória em tempo real
      */
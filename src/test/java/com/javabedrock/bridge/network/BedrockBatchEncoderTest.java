@@ -0,0 +1,220 @@
+package com.javabedrock.bridge.network;
+
+import com.javabedrock.bridge.util.ByteBufUtils;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.ChannelPromise;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.util.ReferenceCountUtil;
+import org.junit.After;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.Inflater;
+
+import static org.junit.Assert.*;
+
+/**
+ * Enquadramento, compressão e promises do {@link BedrockBatchEncoder}
+ */
+public class BedrockBatchEncoderTest {
+    private EmbeddedChannel channel;
+    
+    @After
+    public void tearDown() {
+        if (channel != null) {
+            channel.finishAndReleaseAll();
+        }
+    }
+    
+    @Test
+    public void packetsAreBatchedUntilFlush() {
+        channel = new EmbeddedChannel(new BedrockBatchEncoder(-1, 6));
+        channel.write(packet(0x09, 10));
+        channel.write(packet(0x73, 20));
+        assertNull("nada sai antes do flush", channel.readOutbound());
+        
+        channel.flush();
+        ByteBuf frame = channel.readOutbound();
+        assertNotNull(frame);
+        assertNull("um único frame por flush", channel.readOutbound());
+        
+        assertEquals(BedrockBatchEncoder.BATCH_HEADER, frame.readUnsignedByte());
+        assertEquals(BedrockBatchEncoder.COMPRESSION_NONE, frame.readUnsignedByte());
+        List<ByteBuf> packets = split(frame);
+        assertEquals(2, packets.size());
+        assertEquals(0x09, packets.get(0).getUnsignedByte(0));
+        assertEquals(11, packets.get(0).readableBytes());
+        assertEquals(0x73, packets.get(1).getUnsignedByte(0));
+        assertEquals(21, packets.get(1).readableBytes());
+        frame.release();
+    }
+    
+    @Test
+    public void batchAboveThresholdIsRawDeflated() throws Exception {
+        channel = new EmbeddedChannel(new BedrockBatchEncoder(0, 6));
+        channel.writeAndFlush(packet(0x09, 500));
+        
+        ByteBuf frame = channel.readOutbound();
+        assertEquals(BedrockBatchEncoder.BATCH_HEADER, frame.readUnsignedByte());
+        assertEquals(BedrockBatchEncoder.COMPRESSION_ZLIB, frame.readUnsignedByte());
+        assertTrue("payload repetitivo deve encolher", frame.readableBytes() < 500);
+        
+        byte[] compressed = new byte[frame.readableBytes()];
+        frame.readBytes(compressed);
+        frame.release();
+        Inflater inflater = new Inflater(true);
+        inflater.setInput(compressed);
+        byte[] inflated = new byte[1024];
+        int length = inflater.inflate(inflated);
+        assertTrue(inflater.finished());
+        inflater.end();
+        
+        ByteBuf batch = Unpooled.wrappedBuffer(inflated, 0, length);
+        assertEquals(501, ByteBufUtils.readVarInt(batch));
+        assertEquals(0x09, batch.readUnsignedByte());
+        assertEquals(500, batch.readableBytes());
+    }
+    
+    @Test
+    public void roundTripThroughDecoder() {
+        for (int threshold : new int[] {-1, 0}) {
+            EmbeddedChannel encoder = new EmbeddedChannel(new BedrockBatchEncoder(threshold, 6));
+            EmbeddedChannel decoder = new EmbeddedChannel(new BedrockBatchDecoder());
+            for (int i = 0; i < 5; i++) {
+                encoder.write(packet(0x10 + i, i * 300));
+            }
+            encoder.flush();
+            decoder.writeInbound(encoder.<ByteBuf>readOutbound());
+            
+            for (int i = 0; i < 5; i++) {
+                ByteBuf decoded = decoder.readInbound();
+                assertEquals("ID do pacote " + i, 0x10 + i, decoded.readUnsignedByte());
+                assertEquals("tamanho do pacote " + i, i * 300, decoded.readableBytes());
+                decoded.release();
+            }
+            assertNull(decoder.readInbound());
+            assertFalse(encoder.finishAndReleaseAll());
+            assertFalse(decoder.finishAndReleaseAll());
+        }
+    }
+    
+    @Test
+    public void inputPacketsAreReleased() {
+        channel = new EmbeddedChannel(new BedrockBatchEncoder(0, 6));
+        ByteBuf packet = packet(0x09, 100);
+        channel.writeAndFlush(packet);
+        assertEquals(0, packet.refCnt());
+    }
+    
+    @Test
+    public void packetBatchIsAppendedAsIs() {
+        channel = new EmbeddedChannel(new BedrockBatchEncoder(-1, 6));
+        ByteBuf prefixed = Unpooled.buffer();
+        ByteBufUtils.writeVarInt(prefixed, 2);
+        prefixed.writeByte(0x6F).writeByte(1);
+        channel.write(packet(0x09, 0));
+        channel.writeAndFlush(new PacketBatch(prefixed));
+        assertEquals(0, prefixed.refCnt());
+        
+        ByteBuf frame = channel.readOutbound();
+        frame.skipBytes(2);
+        List<ByteBuf> packets = split(frame);
+        assertEquals(2, packets.size());
+        assertEquals(0x6F, packets.get(1).getUnsignedByte(0));
+        frame.release();
+    }
+    
+    @Test
+    public void pendingBatchIsEmittedBeforeOtherMessages() {
+        channel = new EmbeddedChannel(new BedrockBatchEncoder(-1, 6));
+        channel.write(packet(0x09, 4));
+        channel.writeAndFlush("marcador");
+        
+        Object first = channel.readOutbound();
+        assertTrue("o batch pendente sai primeiro", first instanceof ByteBuf);
+        ReferenceCountUtil.release(first);
+        assertEquals("marcador", channel.readOutbound());
+    }
+    
+    @Test
+    public void packetPromisesFollowTheFrame() {
+        channel = new EmbeddedChannel(new BedrockBatchEncoder(-1, 6));
+        ChannelFuture first = channel.write(packet(0x09, 4));
+        ChannelFuture second = channel.write(packet(0x0A, 4));
+        assertFalse(first.isDone());
+        assertFalse(second.isDone());
+        
+        channel.flush();
+        assertTrue(first.isSuccess());
+        assertTrue(second.isSuccess());
+    }
+    
+    @Test
+    public void frameFailureFailsEveryPacketPromise() {
+        IOException failure = new IOException("socket fechado");
+        channel = new EmbeddedChannel(new FailingWriter(failure), new BedrockBatchEncoder(-1, 6));
+        ChannelFuture first = channel.write(packet(0x09, 4));
+        ChannelFuture second = channel.write(packet(0x0A, 4));
+        channel.flush();
+        
+        assertSame(failure, first.cause());
+        assertSame(failure, second.cause());
+        assertTrue("a falha do frame não fecha o canal", channel.isOpen());
+    }
+    
+    @Test
+    public void untrackedFrameFailureKeepsChannelOpen() {
+        channel = new EmbeddedChannel(new FailingWriter(new IOException("socket fechado")),
+            new BedrockBatchEncoder(-1, 6));
+        channel.writeAndFlush(packet(0x09, 4), channel.voidPromise());
+        channel.checkException();
+        assertTrue(channel.isOpen());
+    }
+    
+    @Test
+    public void pendingPromisesFailWhenRemoved() {
+        channel = new EmbeddedChannel(new BedrockBatchEncoder(-1, 6));
+        ChannelFuture pending = channel.write(packet(0x09, 4));
+        channel.pipeline().remove(BedrockBatchEncoder.class);
+        assertTrue(pending.isDone());
+        assertFalse(pending.isSuccess());
+    }
+    
+    private static ByteBuf packet(int id, int bodyBytes) {
+        return Unpooled.buffer(bodyBytes + 1).writeByte(id).writeZero(bodyBytes);
+    }
+    
+    /**
+     * Separa o conteúdo de um batch sem compressão nos pacotes com prefixo VarInt
+     */
+    private static List<ByteBuf> split(ByteBuf batch) {
+        List<ByteBuf> packets = new ArrayList<>();
+        while (batch.isReadable()) {
+            packets.add(batch.readSlice(ByteBufUtils.readVarInt(batch)));
+        }
+        return packets;
+    }
+    
+    /**
+     * Simula o socket falhando: libera o frame e falha a promise
+     */
+    private static final class FailingWriter extends ChannelOutboundHandlerAdapter {
+        private final Throwable failure;
+        
+        FailingWriter(Throwable failure) {
+            this.failure = failure;
+        }
+        
+        @Override
+        public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) {
+            ReferenceCountUtil.release(msg);
+            promise.setFailure(failure);
+        }
+    }
+}
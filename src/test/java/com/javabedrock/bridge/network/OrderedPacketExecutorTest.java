@@ -0,0 +1,163 @@
+package com.javabedrock.bridge.network;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+
+import static org.junit.Assert.*;
+
+/**
+ * Ordem, contrapressão e posse dos buffers do {@link OrderedPacketExecutor}
+ */
+public class OrderedPacketExecutorTest {
+    private static final int HIGH_WATER_MARK = 8;
+    
+    private ManualExecutor workers;
+    private ManualExecutor eventLoop;
+    private List<Integer> processed;
+    private int pauses;
+    private int resumes;
+    private OrderedPacketExecutor executor;
+    
+    @Before
+    public void setUp() {
+        workers = new ManualExecutor();
+        eventLoop = new ManualExecutor();
+        processed = new ArrayList<>();
+        pauses = 0;
+        resumes = 0;
+        executor = new OrderedPacketExecutor(workers, eventLoop, (id, payload) -> processed.add(id),
+            () -> pauses++, () -> resumes++, HIGH_WATER_MARK);
+    }
+    
+    @Test
+    public void packetsAreProcessedInOrder() {
+        for (int i = 0; i < 100; i++) {
+            executor.enqueue(i, payload());
+            workers.runAll();
+            eventLoop.runAll();
+        }
+        workers.runAll();
+        
+        assertEquals(100, processed.size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(Integer.valueOf(i), processed.get(i));
+        }
+        assertEquals(0, executor.size());
+    }
+    
+    @Test
+    public void readingPausesAtHighWaterMarkAndResumesOnEventLoop() {
+        for (int i = 0; i < HIGH_WATER_MARK - 1; i++) {
+            executor.enqueue(i, payload());
+        }
+        assertEquals(0, pauses);
+        executor.enqueue(HIGH_WATER_MARK, payload());
+        assertEquals(1, pauses);
+        
+        workers.runAll();
+        assertEquals(0, executor.size());
+        assertEquals("a drenagem não retoma fora do event loop", 0, resumes);
+        
+        eventLoop.runAll();
+        assertEquals(1, resumes);
+    }
+    
+    @Test
+    public void resumeIsSkippedWhenQueueRefilledBeforeEventLoopRuns() {
+        for (int i = 0; i < HIGH_WATER_MARK; i++) {
+            executor.enqueue(i, payload());
+        }
+        workers.runAll();
+        // Pacotes já lidos do socket chegam antes da verificação agendada
+        for (int i = 0; i < HIGH_WATER_MARK; i++) {
+            executor.enqueue(i, payload());
+        }
+        eventLoop.runAll();
+        assertEquals(1, pauses);
+        assertEquals("fila cheia de novo: continua pausado", 0, resumes);
+        
+        workers.runAll();
+        eventLoop.runAll();
+        assertEquals(1, resumes);
+    }
+    
+    @Test
+    public void packetsAboveCapacityAreDroppedAndReleased() {
+        for (int i = 0; i < HIGH_WATER_MARK * 2; i++) {
+            assertTrue(executor.enqueue(i, payload()));
+        }
+        ByteBuf dropped = payload();
+        assertFalse(executor.enqueue(-1, dropped));
+        assertEquals(0, dropped.refCnt());
+        workers.runAll();
+        assertFalse(processed.contains(-1));
+    }
+    
+    @Test
+    public void consumerFailureDoesNotStopTheQueue() {
+        List<ByteBuf> payloads = new ArrayList<>();
+        executor = new OrderedPacketExecutor(workers, eventLoop, (id, payload) -> {
+            if (id == 1) {
+                throw new IllegalStateException("pacote inválido");
+            }
+            processed.add(id);
+        }, () -> {}, () -> {}, HIGH_WATER_MARK);
+        for (int i = 0; i < 3; i++) {
+            ByteBuf payload = payload();
+            payloads.add(payload);
+            executor.enqueue(i, payload);
+        }
+        workers.runAll();
+        
+        assertEquals(List.of(0, 2), processed);
+        for (ByteBuf payload : payloads) {
+            assertEquals(0, payload.refCnt());
+        }
+    }
+    
+    @Test
+    public void closeReleasesPendingPackets() {
+        ByteBuf payload = payload();
+        executor.enqueue(1, payload);
+        executor.close();
+        assertEquals(0, payload.refCnt());
+        assertEquals(0, executor.size());
+        
+        ByteBuf late = payload();
+        assertFalse(executor.enqueue(2, late));
+        assertEquals(0, late.refCnt());
+        workers.runAll();
+        assertTrue(processed.isEmpty());
+    }
+    
+    private static ByteBuf payload() {
+        return Unpooled.buffer(4).writeInt(0);
+    }
+    
+    /**
+     * Executor que só roda as tarefas quando o teste pede, para controlar a intercalação
+     */
+    private static final class ManualExecutor implements Executor {
+        private final Queue<Runnable> tasks = new ArrayDeque<>();
+        
+        @Override
+        public void execute(Runnable task) {
+            tasks.add(task);
+        }
+        
+        void runAll() {
+            Runnable task;
+            while ((task = tasks.poll()) != null) {
+                task.run();
+            }
+        }
+    }
+}
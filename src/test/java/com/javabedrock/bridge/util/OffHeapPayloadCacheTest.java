@@ -0,0 +1,142 @@
+package com.javabedrock.bridge.util;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.nio.ReadOnlyBufferException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+/**
+ * Contagem de referências, slices e índice do {@link OffHeapPayloadCache}
+ */
+public class OffHeapPayloadCacheTest {
+    private OffHeapPayloadCache cache;
+    
+    @Before
+    public void setUp() {
+        cache = new OffHeapPayloadCache(PooledByteBufAllocator.DEFAULT, 2L * OffHeapPayloadCache.SLAB_SIZE);
+    }
+    
+    @After
+    public void tearDown() {
+        cache.release();
+    }
+    
+    @Test
+    public void payloadIsSerializedOnce() {
+        AtomicInteger serializations = new AtomicInteger();
+        for (int i = 0; i < 3; i++) {
+            ByteBuf payload = cache.computeIfAbsent(hash("minecraft:stone"), check("minecraft:stone"), out -> {
+                serializations.incrementAndGet();
+                out.writeInt(42);
+            });
+            assertEquals(42, payload.getInt(payload.readerIndex()));
+            payload.release();
+        }
+        assertEquals(1, serializations.get());
+        assertEquals(1, cache.getEntryCount());
+        assertEquals(4, cache.getUsedBytes());
+    }
+    
+    @Test
+    public void slicesAreRetainedAndIndependent() {
+        ByteBuf first = cache.computeIfAbsent(hash("a:b"), check("a:b"), out -> out.writeLong(7L));
+        ByteBuf second = cache.get(hash("a:b"), check("a:b"));
+        assertNotSame(first, second);
+        
+        first.skipBytes(8);
+        assertEquals("índices próprios por leitor", 8, second.readableBytes());
+        assertTrue(first.release());
+        assertEquals(7L, second.readLong());
+        assertTrue(second.release());
+        
+        ByteBuf third = cache.get(hash("a:b"), check("a:b"));
+        assertNotNull("liberar os slices não afeta o slab", third);
+        third.release();
+    }
+    
+    @Test(expected = ReadOnlyBufferException.class)
+    public void slicesAreReadOnly() {
+        ByteBuf payload = cache.computeIfAbsent(hash("a:b"), check("a:b"), out -> out.writeInt(1));
+        try {
+            assertTrue(payload.isReadOnly());
+            payload.setInt(payload.readerIndex(), 2);
+        } finally {
+            payload.release();
+        }
+    }
+    
+    @Test
+    public void keyCollisionDoesNotServeAnotherEntry() {
+        long key = 0x1234L;
+        ByteBuf first = cache.computeIfAbsent(key, check("a:x"), out -> out.writeInt(1));
+        ByteBuf second = cache.computeIfAbsent(key, check("a:y"), out -> out.writeInt(2));
+        assertEquals(1, first.getInt(first.readerIndex()));
+        assertEquals(2, second.getInt(second.readerIndex()));
+        assertEquals(2, cache.getEntryCount());
+        assertNull(cache.get(key, check("a:z")));
+        first.release();
+        second.release();
+    }
+    
+    @Test
+    public void lookupsSurviveIndexResize() {
+        for (int i = 0; i < 3000; i++) {
+            String id = "mod:item_" + i;
+            int value = i;
+            cache.computeIfAbsent(hash(id), check(id), out -> out.writeInt(value)).release();
+        }
+        for (int i = 0; i < 3000; i++) {
+            String id = "mod:item_" + i;
+            ByteBuf payload = cache.get(hash(id), check(id));
+            assertEquals(id, i, payload.getInt(payload.readerIndex()));
+            payload.release();
+        }
+    }
+    
+    @Test
+    public void payloadLargerThanSlabIsNotCached() {
+        ByteBuf payload = cache.computeIfAbsent(hash("big"), check("big"),
+            out -> out.writeZero(OffHeapPayloadCache.SLAB_SIZE + 1));
+        assertEquals(OffHeapPayloadCache.SLAB_SIZE + 1, payload.readableBytes());
+        assertTrue(payload.isReadOnly());
+        assertTrue(payload.release());
+        assertEquals(0, cache.getEntryCount());
+        assertEquals(1, cache.getRejectedCount());
+    }
+    
+    @Test
+    public void failedSerializationReleasesScratchBuffer() {
+        try {
+            cache.computeIfAbsent(hash("x"), check("x"), out -> {
+                out.writeInt(1);
+                throw new IllegalStateException("falha");
+            });
+            fail("a exceção do serializador deve propagar");
+        } catch (IllegalStateException expected) {
+            assertEquals(0, cache.getEntryCount());
+        }
+    }
+    
+    @Test
+    public void slicesOutliveRelease() {
+        ByteBuf payload = cache.computeIfAbsent(hash("a:b"), check("a:b"), out -> out.writeInt(5));
+        cache.release();
+        assertEquals(5, payload.getInt(payload.readerIndex()));
+        assertTrue(payload.release());
+        assertNull(cache.get(hash("a:b"), check("a:b")));
+    }
+    
+    private static long hash(String id) {
+        return OffHeapPayloadCache.hash(id);
+    }
+    
+    private static int check(String id) {
+        return OffHeapPayloadCache.check(id);
+    }
+}